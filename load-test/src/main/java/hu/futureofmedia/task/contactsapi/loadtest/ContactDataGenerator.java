@@ -0,0 +1,212 @@
+package hu.futureofmedia.task.contactsapi.loadtest;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bulk-loads generated contacts into an already migrated contacts database. PostgreSQL is loaded with {@code COPY},
+ * other databases (H2) with batched inserts. Contact IDs are taken from {@code contact_seq} and the sequence is moved
+ * past the loaded rows, so a running application keeps allocating free IDs.
+ *
+ * <p>Options: {@code --url}, {@code --username}, {@code --password}, {@code --contacts} (default 1 000 000),
+ * {@code --companies} (minimum number of companies, default 50), {@code --batch-size} (default 1000),
+ * {@code --seed}.
+ */
+public final class ContactDataGenerator {
+
+    private static final int ALLOCATION_SIZE = 50;
+
+    private static final int PROGRESS_INTERVAL = 100_000;
+
+    private static final String COLUMNS =
+            "id, first_name, last_name, email, phone_number, comment, company_id, status, created_date, last_modified_date, version";
+
+    private static final String COPY_CONTACTS = "copy contact (" + COLUMNS + ") from stdin with (format csv)";
+
+    private static final String INSERT_CONTACT = "insert into contact (" + COLUMNS + ") values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final ContactFaker faker;
+
+    private final LocalDateTime now = LocalDateTime.now().withNano(0);
+
+    private ContactDataGenerator(long seed) {
+        this.faker = new ContactFaker(seed);
+    }
+
+    public static void main(String[] args) throws SQLException {
+        Options options = Options.parse(args);
+        String url = options.get("url", "jdbc:postgresql://localhost:15432/contactsapi");
+        long contacts = options.getLong("contacts", 1_000_000);
+        int companies = options.getInt("companies", 50);
+        int batchSize = options.getInt("batch-size", 1000);
+        ContactDataGenerator generator = new ContactDataGenerator(options.getLong("seed", 20210820));
+        try (Connection connection = DriverManager.getConnection(url,
+                options.get("username", "contactsapi"), options.get("password", "contactsapi"))) {
+            connection.setAutoCommit(false);
+            generator.generate(connection, contacts, companies, batchSize);
+        }
+    }
+
+    private void generate(Connection connection, long contacts, int companies, int batchSize) throws SQLException {
+        boolean postgres = "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName());
+        long[] companyIds = ensureCompanies(connection, companies);
+        long firstId = nextFreeId(connection, postgres);
+        System.out.printf("Loading %,d contacts of %d companies from ID %d into %s%n",
+                contacts, companyIds.length, firstId, connection.getMetaData().getDatabaseProductName());
+        long started = System.nanoTime();
+        if (postgres) {
+            copy(connection, firstId, contacts, companyIds, batchSize, started);
+        } else {
+            insert(connection, firstId, contacts, companyIds, batchSize, started);
+        }
+        moveSequence(connection, postgres, firstId + contacts - 1);
+        connection.commit();
+        double seconds = (System.nanoTime() - started) / 1e9;
+        System.out.printf("Loaded %,d contacts in %.1f s (%,.0f rows/s)%n", contacts, seconds, contacts / seconds);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(postgres ? "analyze contact" : "analyze");
+        }
+        connection.commit();
+    }
+
+    private void copy(Connection connection, long firstId, long contacts, long[] companyIds, int batchSize, long started) throws SQLException {
+        CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_CONTACTS);
+        try {
+            StringBuilder rows = new StringBuilder(batchSize * 512);
+            for (long i = 0; i < contacts; i++) {
+                appendCsvRow(rows, nextContact(firstId + i, companyIds));
+                if ((i + 1) % batchSize == 0 || i + 1 == contacts) {
+                    byte[] bytes = rows.toString().getBytes(StandardCharsets.UTF_8);
+                    copyIn.writeToCopy(bytes, 0, bytes.length);
+                    rows.setLength(0);
+                }
+                progress(i + 1, started);
+            }
+            copyIn.endCopy();
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+
+    private void insert(Connection connection, long firstId, long contacts, long[] companyIds, int batchSize, long started) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_CONTACT)) {
+            for (long i = 0; i < contacts; i++) {
+                Object[] contact = nextContact(firstId + i, companyIds);
+                for (int column = 0; column < contact.length; column++) {
+                    statement.setObject(column + 1, contact[column]);
+                }
+                statement.addBatch();
+                if ((i + 1) % batchSize == 0 || i + 1 == contacts) {
+                    statement.executeBatch();
+                    connection.commit();
+                }
+                progress(i + 1, started);
+            }
+        }
+    }
+
+    private Object[] nextContact(long id, long[] companyIds) {
+        String firstName = faker.firstName();
+        String lastName = faker.lastName();
+        LocalDateTime createdDate = faker.createdDate(now);
+        LocalDateTime lastModifiedDate = faker.lastModifiedDate(createdDate, now);
+        boolean deleted = faker.deleted();
+        return new Object[]{
+                id,
+                firstName,
+                lastName,
+                faker.email(firstName, lastName, id),
+                faker.phoneNumber(),
+                faker.comment(),
+                faker.pick(companyIds),
+                deleted ? "DELETED" : "ACTIVE",
+                createdDate,
+                lastModifiedDate,
+                createdDate.equals(lastModifiedDate) ? 0L : 1L + faker.nextInt(5)};
+    }
+
+    private static void appendCsvRow(StringBuilder rows, Object[] contact) {
+        for (int column = 0; column < contact.length; column++) {
+            if (column > 0) {
+                rows.append(',');
+            }
+            Object value = contact[column];
+            if (value instanceof String) {
+                rows.append('"').append(((String) value).replace("\"", "\"\"")).append('"');
+            } else if (value instanceof LocalDateTime) {
+                rows.append(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format((LocalDateTime) value));
+            } else if (value != null) {
+                rows.append(value);
+            }
+        }
+        rows.append('\n');
+    }
+
+    private long[] ensureCompanies(Connection connection, int minimum) throws SQLException {
+        List<Long> ids = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("select id from company order by id")) {
+            while (resultSet.next()) {
+                ids.add(resultSet.getLong(1));
+            }
+        }
+        if (ids.size() < minimum) {
+            try (PreparedStatement statement = connection.prepareStatement("insert into company (name) values (?)", new String[]{"id"})) {
+                for (int i = ids.size(); i < minimum; i++) {
+                    statement.setString(1, faker.companyName());
+                    statement.executeUpdate();
+                    try (ResultSet keys = statement.getGeneratedKeys()) {
+                        keys.next();
+                        ids.add(keys.getLong(1));
+                    }
+                }
+            }
+            connection.commit();
+        }
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    /**
+     * Skips the IDs the application may already have allocated from {@code contact_seq}.
+     */
+    private long nextFreeId(Connection connection, boolean postgres) throws SQLException {
+        String sql = postgres
+                ? "select greatest(nextval('contact_seq'), (select coalesce(max(id), 0) from contact))"
+                : "select greatest(next value for contact_seq, (select coalesce(max(id), 0) from contact))";
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getLong(1) + 1;
+        }
+    }
+
+    private void moveSequence(Connection connection, boolean postgres, long lastId) throws SQLException {
+        long next = lastId + ALLOCATION_SIZE;
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(postgres
+                    ? "select setval('contact_seq', " + next + ", false)"
+                    : "alter sequence contact_seq restart with " + next);
+        }
+    }
+
+    private void progress(long loaded, long started) {
+        if (loaded % PROGRESS_INTERVAL == 0) {
+            double seconds = (System.nanoTime() - started) / 1e9;
+            System.out.printf("%,d contacts (%,.0f rows/s)%n", loaded, loaded / seconds);
+        }
+    }
+}
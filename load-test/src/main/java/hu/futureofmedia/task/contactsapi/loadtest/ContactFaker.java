@@ -0,0 +1,201 @@
+package hu.futureofmedia.task.contactsapi.loadtest;
+
+import com.google.i18n.phonenumbers.NumberParseException;
+import com.google.i18n.phonenumbers.PhoneNumberUtil;
+import com.google.i18n.phonenumbers.Phonenumber;
+
+import java.text.Normalizer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+/**
+ * Generates contact data resembling production: names of several nationalities with accents, unique emails,
+ * E.164 phone numbers accepted by the API's validator and comments from empty to a few thousand characters.
+ * Everything is derived from the seed, no external data is used.
+ */
+final class ContactFaker {
+
+    private static final String[] FIRST_NAMES = {
+            "Ádám", "Anna", "Balázs", "Bence", "Csilla", "Dániel", "Dóra", "Eszter", "Gábor", "Gergő",
+            "Hanna", "István", "Júlia", "Katalin", "Krisztián", "László", "Lili", "Márton", "Noémi", "Péter",
+            "Réka", "Szabolcs", "Tímea", "Zoltán", "Zsófia", "Ödön", "Ünige", "Jürgen", "Lukas", "Sophie",
+            "Günther", "Mia", "Jan", "Tereza", "Jiří", "Zuzana", "Marek", "Agnieszka", "Łukasz", "Ioana",
+            "Andrei", "James", "Olivia", "William", "Emily", "Mohammed", "Fatima", "Chen", "Mei", "José",
+            "María", "François", "Chloé", "Giulia", "Matteo", "Mary-Kate", "Jean-Luc", "Anne Marie"};
+
+    private static final String[] LAST_NAMES = {
+            "Nagy", "Kovács", "Tóth", "Szabó", "Horváth", "Varga", "Kiss", "Molnár", "Németh", "Farkas",
+            "Balogh", "Papp", "Takács", "Juhász", "Lakatos", "Mészáros", "Oláh", "Simon", "Rácz", "Fekete",
+            "Szűcs", "Pásztor", "Gulyás", "Bíró", "Müller", "Schmidt", "Schröder", "Weiß", "Novák", "Dvořák",
+            "Nowak", "Wiśniewski", "Popescu", "Ionescu", "Smith", "O'Brien", "Johnson", "Williams", "Al-Hassan",
+            "Wang", "Li", "García", "Fernández", "Dubois", "Lefèvre", "Rossi", "Bianchi", "Van der Berg",
+            "Kovács-Nagy", "Szentgyörgyi-Horváth"};
+
+    private static final String[] DOMAINS = {
+            "gmail.com", "freemail.hu", "citromail.hu", "outlook.com", "yahoo.com", "t-online.de", "gmx.net",
+            "seznam.cz", "wp.pl", "icloud.com", "company.hu", "partner.example.org"};
+
+    private static final String[] COMPANY_SUFFIXES = {"Kft.", "Zrt.", "Bt.", "Nyrt.", "GmbH", "Ltd.", "s.r.o.", "Sp. z o.o."};
+
+    private static final String[] COMPANY_WORDS = {
+            "Informatika", "Logisztika", "Kereskedelmi", "Építő", "Tanácsadó", "Pénzügyi", "Média", "Energia",
+            "Software", "Consulting", "Trade", "Solutions", "Holding", "Services", "Invest", "Partners"};
+
+    private static final String[] WORDS = {
+            "meeting", "contract", "renewal", "invoice", "follow-up", "call", "budget", "quarterly", "review",
+            "prefers", "email", "phone", "morning", "afternoon", "project", "deadline", "delivery", "pricing",
+            "discount", "partner", "conference", "Budapest", "Vienna", "Berlin", "prague", "warehouse", "support",
+            "ticket", "escalated", "resolved", "decision", "maker", "assistant", "procurement", "legal", "signed",
+            "pending", "approval", "travel", "visit", "demo", "feedback", "positive", "concerns", "integration",
+            "migration", "training", "onboarding", "holiday", "available", "after", "before", "next", "week",
+            "month", "year", "számla", "határidő", "egyeztetés", "ajánlat", "szerződés", "megbeszélés", "kérés",
+            "visszahívás", "árajánlat", "szállítás", "jóváhagyás", "és", "a", "the", "with", "about", "for"};
+
+    /** Number prefixes with the digits to append, every generated number is still checked by libphonenumber. */
+    private static final String[][] PHONE_PATTERNS = {
+            {"3620", "7"}, {"3630", "7"}, {"3631", "7"}, {"3650", "7"}, {"3670", "7"}, {"361", "7"},
+            {"3646", "6"}, {"3652", "6"}, {"3662", "6"}, {"3672", "6"}, {"4915", "9"}, {"4916", "8"},
+            {"4917", "8"}, {"4930", "8"}, {"43664", "7"}, {"43676", "7"}, {"4477", "8"}, {"420", "9"},
+            {"4860", "7"}, {"4072", "7"}};
+
+    private static final String FALLBACK_PHONE_PREFIX = "3620";
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}");
+
+    private static final Pattern NOT_EMAIL_CHARACTER = Pattern.compile("[^a-z0-9]");
+
+    private static final PhoneNumberUtil PHONE_UTIL = PhoneNumberUtil.getInstance();
+
+    private final Random random;
+
+    ContactFaker(long seed) {
+        this.random = new Random(seed);
+    }
+
+    String firstName() {
+        return pick(FIRST_NAMES);
+    }
+
+    String lastName() {
+        return pick(LAST_NAMES);
+    }
+
+    String email(String firstName, String lastName, long unique) {
+        String local = emailPart(firstName) + (random.nextBoolean() ? "." : "_") + emailPart(lastName);
+        return local + unique + '@' + pick(DOMAINS);
+    }
+
+    /**
+     * A phone number in the stored E.164 digits-only form, or {@code null} for about a fifth of the contacts.
+     */
+    String phoneNumber() {
+        if (random.nextInt(5) == 0) {
+            return null;
+        }
+        for (int attempt = 0; attempt < 10; attempt++) {
+            String[] pattern = pick(PHONE_PATTERNS);
+            String candidate = pattern[0] + digits(Integer.parseInt(pattern[1]));
+            if (isValidE164(candidate)) {
+                return candidate;
+            }
+        }
+        return FALLBACK_PHONE_PREFIX + digits(7);
+    }
+
+    /**
+     * Empty for a fifth of the contacts, a short note for half and a long history of up to 4000 characters for the rest.
+     */
+    String comment() {
+        int kind = random.nextInt(10);
+        if (kind < 2) {
+            return "";
+        }
+        int length = kind < 7 ? 40 + random.nextInt(260) : 1000 + random.nextInt(3000);
+        StringBuilder comment = new StringBuilder(length + 20);
+        boolean sentenceStart = true;
+        while (comment.length() < length) {
+            String word = pick(WORDS);
+            if (sentenceStart) {
+                word = word.substring(0, 1).toUpperCase(Locale.ROOT) + word.substring(1);
+            }
+            comment.append(word);
+            sentenceStart = random.nextInt(12) == 0;
+            if (sentenceStart) {
+                comment.append(random.nextInt(4) == 0 ? "!" : ".");
+                if (random.nextInt(6) == 0) {
+                    comment.append('\n');
+                }
+            } else if (random.nextInt(10) == 0) {
+                comment.append(',');
+            }
+            comment.append(' ');
+        }
+        return comment.toString().trim();
+    }
+
+    String companyName() {
+        return pick(LAST_NAMES) + ' ' + pick(COMPANY_WORDS) + ' ' + pick(COMPANY_SUFFIXES);
+    }
+
+    /**
+     * A creation date within the last three years.
+     */
+    LocalDateTime createdDate(LocalDateTime now) {
+        return now.minusSeconds(60 + (long) (random.nextDouble() * 3 * 365 * 24 * 3600));
+    }
+
+    /**
+     * Most contacts were modified shortly after they were created, some much later.
+     */
+    LocalDateTime lastModifiedDate(LocalDateTime createdDate, LocalDateTime now) {
+        if (random.nextInt(3) == 0) {
+            return createdDate;
+        }
+        long maxSeconds = Duration.between(createdDate, now).getSeconds();
+        double skew = random.nextDouble();
+        return createdDate.plusSeconds((long) (skew * skew * skew * maxSeconds));
+    }
+
+    boolean deleted() {
+        return random.nextInt(50) == 0;
+    }
+
+    <T> T pick(T[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    long pick(long[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    int nextInt(int bound) {
+        return random.nextInt(bound);
+    }
+
+    private String digits(int count) {
+        StringBuilder digits = new StringBuilder(count);
+        for (int i = 0; i < count; i++) {
+            digits.append((char) ('0' + random.nextInt(10)));
+        }
+        return digits.toString();
+    }
+
+    private static String emailPart(String name) {
+        String ascii = MARKS.matcher(Normalizer.normalize(name.replace("ł", "l").replace("Ł", "L").replace("ß", "ss"), Normalizer.Form.NFD))
+                .replaceAll("");
+        return NOT_EMAIL_CHARACTER.matcher(ascii.toLowerCase(Locale.ROOT)).replaceAll("");
+    }
+
+    private static boolean isValidE164(String digits) {
+        String phoneNumberWithPlus = '+' + digits;
+        try {
+            Phonenumber.PhoneNumber phoneNumber = PHONE_UTIL.parse(phoneNumberWithPlus, null);
+            return PHONE_UTIL.isValidNumber(phoneNumber) &&
+                    phoneNumberWithPlus.equals(PHONE_UTIL.format(phoneNumber, PhoneNumberUtil.PhoneNumberFormat.E164));
+        } catch (NumberParseException ignored) {}
+        return false;
+    }
+}
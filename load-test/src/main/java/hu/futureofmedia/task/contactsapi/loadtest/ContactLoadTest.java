@@ -0,0 +1,328 @@
+package hu.futureofmedia.task.contactsapi.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs mixed read, list and write traffic against the v1 contacts API of a running application and reports the
+ * throughput and latency percentiles of every operation. The contacts to read and update are sampled from the
+ * changes endpoint at start, contacts are only deleted if the load test created them.
+ *
+ * <p>Every worker sends its next request as soon as the previous one is answered (closed model), so the latencies
+ * do not include the time requests would have waited in a queue at a fixed arrival rate.
+ *
+ * <p>Searches are not part of the default mix, {@code --mix=search=100} measures them alone. A search looks for the
+ * first 1-4 letters of a last name, the short prefixes are the expensive ones.
+ *
+ * <p>Options: {@code --base-url} (default http://localhost:8080), {@code --concurrency} (default 32),
+ * {@code --duration} (default PT60S), {@code --warmup} (default PT10S),
+ * {@code --mix} (default read=60,list=25,create=8,update=5,delete=2), {@code --company-ids} (default 1,2,3),
+ * {@code --sample-pages} (pages of the changes endpoint to sample IDs from, default 20),
+ * {@code --max-error-rate} (exits with 1 above it, default 0.01), {@code --seed}.
+ */
+public final class ContactLoadTest {
+
+    private static final String CONTACTS_PATH = "/api/v1/contacts";
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+    private static final double MEAN_LISTED_PAGE = 5;
+
+    private static final int MAX_SEARCHED_PREFIX = 4;
+
+    enum Operation {
+        READ, LIST, SEARCH, CREATE, UPDATE, DELETE
+    }
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(REQUEST_TIMEOUT)
+            .build();
+
+    private final IdPool ids = new IdPool();
+
+    private final IdPool createdIds = new IdPool();
+
+    private final AtomicLong emailSuffix = new AtomicLong(System.currentTimeMillis() * 1000);
+
+    private final String baseUrl;
+
+    private final Operation[] mix;
+
+    private final long[] companyIds;
+
+    private final long seed;
+
+    private int maxListedPage = 1;
+
+    private ContactLoadTest(String baseUrl, Operation[] mix, long[] companyIds, long seed) {
+        this.baseUrl = baseUrl;
+        this.mix = mix;
+        this.companyIds = companyIds;
+        this.seed = seed;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = Options.parse(args);
+        String mix = options.get("mix", "read=60,list=25,create=8,update=5,delete=2");
+        ContactLoadTest loadTest = new ContactLoadTest(
+                options.get("base-url", "http://localhost:8080"),
+                parseMix(mix),
+                parseIds(options.get("company-ids", "1,2,3")),
+                options.getLong("seed", 20210820));
+        int concurrency = options.getInt("concurrency", 32);
+        Duration warmup = options.getDuration("warmup", Duration.ofSeconds(10));
+        Duration duration = options.getDuration("duration", Duration.ofSeconds(60));
+
+        loadTest.sampleIds(options.getInt("sample-pages", 20));
+        System.out.printf("%d workers, %s warmup, %s measured, mix %s, %d sampled contacts%n",
+                concurrency, warmup, duration, mix, loadTest.ids.size());
+        Map<Operation, LatencyRecorder> results = loadTest.run(concurrency, warmup, duration);
+
+        double seconds = duration.toMillis() / 1000.0;
+        LatencyRecorder total = new LatencyRecorder();
+        System.out.println(LatencyRecorder.header());
+        for (Map.Entry<Operation, LatencyRecorder> result : results.entrySet()) {
+            System.out.println(result.getValue().summary(result.getKey().name().toLowerCase(), seconds));
+            total.merge(result.getValue());
+        }
+        System.out.println(total.summary("total", seconds));
+
+        double errorRate = total.getCount() == 0 ? 1 : (double) total.getErrors() / total.getCount();
+        double maxErrorRate = options.getDouble("max-error-rate", 0.01);
+        if (errorRate > maxErrorRate) {
+            System.out.printf("Error rate %.2f%% is above %.2f%%%n", errorRate * 100, maxErrorRate * 100);
+            System.exit(1);
+        }
+    }
+
+    private void sampleIds(int pages) throws IOException, InterruptedException {
+        String cursor = "";
+        for (int page = 0; page < pages; page++) {
+            JsonNode changes = getJson(CONTACTS_PATH + "/changes?cursor=" + URLEncoder.encode(cursor, StandardCharsets.UTF_8));
+            for (JsonNode change : changes.get("changes")) {
+                if (!"DELETED".equals(change.get("type").asText())) {
+                    ids.add(change.get("id").asLong());
+                }
+            }
+            if (!changes.get("hasMore").asBoolean()) {
+                break;
+            }
+            cursor = changes.get("next").asText();
+        }
+        JsonNode firstPage = getJson(CONTACTS_PATH);
+        maxListedPage = Math.max(1, firstPage.get("totalPages").asInt());
+        if (ids.size() == 0) {
+            throw new IllegalStateException("No contacts found, load some with the generateContacts task first");
+        }
+    }
+
+    private Map<Operation, LatencyRecorder> run(int concurrency, Duration warmup, Duration duration) throws InterruptedException {
+        long measuredFrom = System.nanoTime() + warmup.toNanos();
+        long until = measuredFrom + duration.toNanos();
+        List<Worker> workers = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            Worker worker = new Worker(seed + i, measuredFrom, until);
+            Thread thread = new Thread(worker, "load-test-" + i);
+            workers.add(worker);
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        Map<Operation, LatencyRecorder> results = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            LatencyRecorder merged = new LatencyRecorder();
+            workers.forEach(worker -> merged.merge(worker.recorders.get(operation)));
+            if (merged.getCount() > 0) {
+                results.put(operation, merged);
+            }
+        }
+        return results;
+    }
+
+    private JsonNode getJson(String path) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = httpClient.send(request(path).GET().build(), HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("GET " + path + " returned " + response.statusCode());
+        }
+        return objectMapper.readTree(response.body());
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", "application/json");
+    }
+
+    private static Operation[] parseMix(String mix) {
+        List<Operation> weighted = new ArrayList<>();
+        for (String part : mix.split(",")) {
+            String[] entry = part.trim().split("=");
+            Operation operation = Operation.valueOf(entry[0].trim().toUpperCase());
+            for (int i = Integer.parseInt(entry[1].trim()); i > 0; i--) {
+                weighted.add(operation);
+            }
+        }
+        if (weighted.isEmpty()) {
+            throw new IllegalArgumentException("The mix must contain at least one operation: " + mix);
+        }
+        return weighted.toArray(new Operation[0]);
+    }
+
+    private static long[] parseIds(String ids) {
+        return Arrays.stream(ids.split(",")).map(String::trim).mapToLong(Long::parseLong).toArray();
+    }
+
+    private final class Worker implements Runnable {
+
+        private final Random random;
+
+        private final ContactFaker faker;
+
+        private final long measuredFrom;
+
+        private final long until;
+
+        private final Map<Operation, LatencyRecorder> recorders = new EnumMap<>(Operation.class);
+
+        private Worker(long seed, long measuredFrom, long until) {
+            this.random = new Random(seed);
+            this.faker = new ContactFaker(seed);
+            this.measuredFrom = measuredFrom;
+            this.until = until;
+            for (Operation operation : Operation.values()) {
+                recorders.put(operation, new LatencyRecorder());
+            }
+        }
+
+        @Override
+        public void run() {
+            long now;
+            while ((now = System.nanoTime()) < until) {
+                Operation operation = mix[random.nextInt(mix.length)];
+                Long deletedId = null;
+                if (operation == Operation.DELETE && (deletedId = createdIds.take(random)) == null) {
+                    operation = Operation.CREATE;
+                }
+                HttpRequest request = request(operation, deletedId);
+                boolean success;
+                HttpResponse<byte[]> response = null;
+                try {
+                    response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+                    success = isSuccess(operation, response.statusCode());
+                } catch (IOException e) {
+                    success = false;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                long latency = System.nanoTime() - now;
+                if (now >= measuredFrom) {
+                    recorders.get(operation).record(latency, success);
+                }
+                if (operation == Operation.CREATE && success) {
+                    registerCreated(response);
+                }
+            }
+        }
+
+        private HttpRequest request(Operation operation, Long deletedId) {
+            switch (operation) {
+                case READ:
+                    return ContactLoadTest.this.request(CONTACTS_PATH + "/" + ids.random(random)).GET().build();
+                case LIST:
+                    return ContactLoadTest.this.request(CONTACTS_PATH + "?page=" + listedPage()).GET().build();
+                case SEARCH:
+                    return ContactLoadTest.this.request(CONTACTS_PATH + "/search?q=" + URLEncoder.encode(searchedPrefix(), StandardCharsets.UTF_8))
+                            .GET()
+                            .build();
+                case CREATE:
+                    return ContactLoadTest.this.request(CONTACTS_PATH)
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofByteArray(contactJson()))
+                            .build();
+                case UPDATE:
+                    return ContactLoadTest.this.request(CONTACTS_PATH + "/" + ids.random(random))
+                            .header("Content-Type", "application/json")
+                            .PUT(HttpRequest.BodyPublishers.ofByteArray(contactJson()))
+                            .build();
+                default:
+                    ids.remove(deletedId);
+                    return ContactLoadTest.this.request(CONTACTS_PATH + "/" + deletedId).DELETE().build();
+            }
+        }
+
+        /**
+         * Reads and updates may hit a contact another worker has just deleted.
+         */
+        private boolean isSuccess(Operation operation, int status) {
+            if (status == 404) {
+                return operation == Operation.READ || operation == Operation.UPDATE;
+            }
+            return status >= 200 && status < 300;
+        }
+
+        /**
+         * Most clients look at the first few pages, exponentially fewer go further.
+         */
+        private int listedPage() {
+            int page = (int) (-Math.log(1 - random.nextDouble()) * MEAN_LISTED_PAGE);
+            return Math.min(page, maxListedPage - 1);
+        }
+
+        private String searchedPrefix() {
+            String lastName = faker.lastName().toLowerCase(Locale.ROOT);
+            return lastName.substring(0, Math.min(lastName.length(), 1 + random.nextInt(MAX_SEARCHED_PREFIX)));
+        }
+
+        private byte[] contactJson() {
+            String firstName = faker.firstName();
+            String lastName = faker.lastName();
+            ObjectNode contact = objectMapper.createObjectNode()
+                    .put("firstName", firstName)
+                    .put("lastName", lastName)
+                    .put("email", faker.email(firstName, lastName, emailSuffix.incrementAndGet()))
+                    .put("phoneNumber", faker.phoneNumber())
+                    .put("companyId", faker.pick(companyIds))
+                    .put("comment", faker.comment());
+            try {
+                return objectMapper.writeValueAsBytes(contact);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private void registerCreated(HttpResponse<byte[]> response) {
+            try {
+                long id = objectMapper.readTree(response.body()).get("id").asLong();
+                ids.add(id);
+                createdIds.add(id);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
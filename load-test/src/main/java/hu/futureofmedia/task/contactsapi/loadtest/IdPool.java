@@ -0,0 +1,54 @@
+package hu.futureofmedia.task.contactsapi.loadtest;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Contact IDs the load test can target, shared by the workers.
+ */
+final class IdPool {
+
+    private long[] ids = new long[1024];
+
+    private int size;
+
+    synchronized void add(long id) {
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+        ids[size++] = id;
+    }
+
+    /**
+     * A random ID, or {@code null} when the pool is empty.
+     */
+    synchronized Long random(Random random) {
+        return size == 0 ? null : ids[random.nextInt(size)];
+    }
+
+    /**
+     * Removes and returns a random ID, or {@code null} when the pool is empty.
+     */
+    synchronized Long take(Random random) {
+        if (size == 0) {
+            return null;
+        }
+        int index = random.nextInt(size);
+        long id = ids[index];
+        ids[index] = ids[--size];
+        return id;
+    }
+
+    synchronized void remove(long id) {
+        for (int i = 0; i < size; i++) {
+            if (ids[i] == id) {
+                ids[i] = ids[--size];
+                return;
+            }
+        }
+    }
+
+    synchronized int size() {
+        return size;
+    }
+}
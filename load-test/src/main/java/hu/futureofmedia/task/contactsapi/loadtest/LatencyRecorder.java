@@ -0,0 +1,72 @@
+package hu.futureofmedia.task.contactsapi.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Latencies and error count of one operation, recorded by a single worker thread and merged for the report.
+ */
+final class LatencyRecorder {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private static final String[] PERCENTILE_LABELS = {"p50", "p90", "p99", "p99.9"};
+
+    private long[] latencies = new long[1024];
+
+    private int count;
+
+    private long errors;
+
+    void record(long latencyNanos, boolean success) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = latencyNanos;
+        if (!success) {
+            errors++;
+        }
+    }
+
+    void merge(LatencyRecorder other) {
+        if (count + other.count > latencies.length) {
+            latencies = Arrays.copyOf(latencies, count + other.count);
+        }
+        System.arraycopy(other.latencies, 0, latencies, count, other.count);
+        count += other.count;
+        errors += other.errors;
+    }
+
+    int getCount() {
+        return count;
+    }
+
+    long getErrors() {
+        return errors;
+    }
+
+    static String header() {
+        StringBuilder header = new StringBuilder(String.format("%-8s %10s %8s %10s", "", "requests", "errors", "req/s"));
+        for (String label : PERCENTILE_LABELS) {
+            header.append(String.format(" %9s", label));
+        }
+        return header.append(String.format(" %9s", "max")).toString();
+    }
+
+    String summary(String name, double seconds) {
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        StringBuilder summary = new StringBuilder(String.format("%-8s %10d %8d %10.1f", name, count, errors, count / seconds));
+        for (double percentile : PERCENTILES) {
+            summary.append(String.format(" %7.2fms", millis(sorted, percentile)));
+        }
+        return summary.append(String.format(" %7.2fms", count == 0 ? 0 : sorted[count - 1] / 1e6)).toString();
+    }
+
+    private static double millis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+}
@@ -0,0 +1,47 @@
+package hu.futureofmedia.task.contactsapi.loadtest;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Command line options in {@code --name=value} form.
+ */
+final class Options {
+
+    private final Map<String, String> values = new HashMap<>();
+
+    private Options() {}
+
+    static Options parse(String[] args) {
+        Options options = new Options();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Options must be given as --name=value: " + arg);
+            }
+            options.values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return options;
+    }
+
+    String get(String name, String defaultValue) {
+        return values.getOrDefault(name, defaultValue);
+    }
+
+    int getInt(String name, int defaultValue) {
+        return values.containsKey(name) ? Integer.parseInt(values.get(name)) : defaultValue;
+    }
+
+    long getLong(String name, long defaultValue) {
+        return values.containsKey(name) ? Long.parseLong(values.get(name).replace("_", "")) : defaultValue;
+    }
+
+    double getDouble(String name, double defaultValue) {
+        return values.containsKey(name) ? Double.parseDouble(values.get(name)) : defaultValue;
+    }
+
+    Duration getDuration(String name, Duration defaultValue) {
+        return values.containsKey(name) ? Duration.parse(values.get(name)) : defaultValue;
+    }
+}
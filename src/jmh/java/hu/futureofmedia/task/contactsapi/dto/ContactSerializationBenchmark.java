@@ -0,0 +1,52 @@
+package hu.futureofmedia.task.contactsapi.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ContactSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+
+    private ContactInfo contactInfo;
+
+    private Page<ContactMinInfo> page;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        LocalDateTime now = LocalDateTime.now();
+        contactInfo = new ContactInfo(1L, "John", "Doe", "john.doe@gmail.com", "36201234567", "Company #1", "John Doe comment", now, now);
+        List<ContactMinInfo> content = IntStream.rangeClosed(1, 10)
+                .mapToObj(i -> new ContactMinInfo((long) i, String.format("John%02d", i), "Doe", "john.doe@gmail.com", "36201234567", "Company #1"))
+                .collect(Collectors.toList());
+        page = new PageImpl<>(content, PageRequest.of(0, 10), 1000);
+    }
+
+    @Benchmark
+    public byte[] serializeContactInfo() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(contactInfo);
+    }
+
+    @Benchmark
+    public byte[] serializeContactMinInfoPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
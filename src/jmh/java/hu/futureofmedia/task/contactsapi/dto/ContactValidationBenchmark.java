@@ -0,0 +1,47 @@
+package hu.futureofmedia.task.contactsapi.dto;
+
+import org.openjdk.jmh.annotations.*;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validation;
+import javax.validation.Validator;
+import javax.validation.ValidatorFactory;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ContactValidationBenchmark {
+
+    private ValidatorFactory validatorFactory;
+
+    private Validator validator;
+
+    private ContactCreateUpdateCommand valid;
+
+    private ContactCreateUpdateCommand invalid;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        valid = new ContactCreateUpdateCommand("John", "Doe", "john.doe@gmail.com", "36201234567", 1L, "John Doe comment");
+        invalid = new ContactCreateUpdateCommand(" ", "Doe", "john.doe", "06201234567", 0L, null);
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<ContactCreateUpdateCommand>> validateValidCommand() {
+        return validator.validate(valid);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<ContactCreateUpdateCommand>> validateInvalidCommand() {
+        return validator.validate(invalid);
+    }
+}
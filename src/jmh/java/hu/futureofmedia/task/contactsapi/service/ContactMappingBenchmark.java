@@ -0,0 +1,57 @@
+package hu.futureofmedia.task.contactsapi.service;
+
+import hu.futureofmedia.task.contactsapi.dto.ContactCreateUpdateCommand;
+import hu.futureofmedia.task.contactsapi.dto.ContactInfo;
+import hu.futureofmedia.task.contactsapi.entities.Company;
+import hu.futureofmedia.task.contactsapi.entities.Contact;
+import hu.futureofmedia.task.contactsapi.repositories.CompanyRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ContactMappingBenchmark {
+
+    private ContactService contactService;
+
+    private ContactCreateUpdateCommand command;
+
+    private Contact contact;
+
+    @Setup
+    public void setUp() {
+        Company company = new Company(1L, "Company #1");
+        CompanyRepository companyRepository = (CompanyRepository) Proxy.newProxyInstance(
+                CompanyRepository.class.getClassLoader(),
+                new Class<?>[]{CompanyRepository.class},
+                (proxy, method, args) -> {
+                    if ("findAll".equals(method.getName()) && method.getParameterCount() == 0) {
+                        return List.of(company);
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        CompanyService companyService = new CompanyService(companyRepository, Duration.ofSeconds(10));
+        companyService.loadCompanies();
+        contactService = new ContactService(null, companyService, null, null, null, null, null, null);
+
+        command = new ContactCreateUpdateCommand("  John ", "Doe", "john.doe@gmail.com", "36201234567", 1L, " John Doe comment ");
+        LocalDateTime now = LocalDateTime.now();
+        contact = new Contact(1L, "John", "Doe", "john.doe@gmail.com", "36201234567", company, "John Doe comment", Contact.Status.ACTIVE, now, now);
+    }
+
+    @Benchmark
+    public Contact mapToContact() {
+        return contactService.mapToContact(command);
+    }
+
+    @Benchmark
+    public ContactInfo mapToInfo() {
+        return contactService.mapToInfo(contact);
+    }
+}
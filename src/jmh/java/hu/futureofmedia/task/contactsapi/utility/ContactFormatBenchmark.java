@@ -0,0 +1,157 @@
+package hu.futureofmedia.task.contactsapi.utility;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import hu.futureofmedia.task.contactsapi.dto.ContactInfo;
+import hu.futureofmedia.task.contactsapi.dto.ContactMinInfo;
+import hu.futureofmedia.task.contactsapi.protobuf.ContactProtos;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.ResolvableType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.GenericHttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Compares the response formats of the contact API. Encoding goes through the same message converters as the
+ * controller, decoding maps the payload back to the DTOs the way a client would. Payload sizes are printed at setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ContactFormatBenchmark {
+
+    private static final Type PAGE_TYPE = ResolvableType.forClassWithGenerics(Page.class, ContactMinInfo.class).getType();
+
+    @Param({"json", "cbor", "smile", "protobuf"})
+    public String format;
+
+    @Param({"10", "100", "1000"})
+    public int pageSize;
+
+    private GenericHttpMessageConverter<Object> converter;
+
+    private MediaType mediaType;
+
+    private ObjectMapper objectMapper;
+
+    private ContactInfo contactInfo;
+
+    private Page<ContactMinInfo> page;
+
+    private byte[] encodedContactInfo;
+
+    private byte[] encodedPage;
+
+    @Setup
+    public void setUp() throws IOException {
+        switch (format) {
+            case "json":
+                objectMapper = objectMapper(null);
+                converter = new MappingJackson2HttpMessageConverter(objectMapper);
+                mediaType = MediaType.APPLICATION_JSON;
+                break;
+            case "cbor":
+                objectMapper = objectMapper(new CBORFactory());
+                converter = new MappingJackson2CborHttpMessageConverter(objectMapper);
+                mediaType = MediaType.APPLICATION_CBOR;
+                break;
+            case "smile":
+                objectMapper = objectMapper(new SmileFactory());
+                converter = new MappingJackson2SmileHttpMessageConverter(objectMapper);
+                mediaType = MediaType.valueOf("application/x-jackson-smile");
+                break;
+            default:
+                converter = new ContactProtobufHttpMessageConverter();
+                mediaType = ContactProtobufHttpMessageConverter.APPLICATION_PROTOBUF;
+        }
+
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        contactInfo = new ContactInfo(1L, "John", "Doe", "john.doe@gmail.com", "+36201234567", "Company #1", "Met at the 2021 partner conference, prefers email", now.minusDays(30), now, 3L);
+        List<ContactMinInfo> content = IntStream.rangeClosed(1, pageSize)
+                .mapToObj(i -> new ContactMinInfo((long) i, String.format("John%04d", i), "Doe", String.format("john%04d.doe@gmail.com", i),
+                        i % 3 == 0 ? null : String.format("+362012%05d", i), "Company #" + (i % 5 + 1)))
+                .collect(Collectors.toList());
+        page = new PageImpl<>(content, PageRequest.of(0, pageSize), 25L * pageSize);
+
+        encodedContactInfo = encodeContactInfo();
+        encodedPage = encodePage();
+        System.out.printf("%n%s payload size: contact %d bytes, page of %d %d bytes%n",
+                format, encodedContactInfo.length, pageSize, encodedPage.length);
+    }
+
+    @Benchmark
+    public byte[] encodeContactInfo() throws IOException {
+        return write(contactInfo, ContactInfo.class);
+    }
+
+    @Benchmark
+    public byte[] encodePage() throws IOException {
+        return write(page, PAGE_TYPE);
+    }
+
+    @Benchmark
+    public ContactInfo decodeContactInfo() throws IOException {
+        if (objectMapper == null) {
+            ContactProtos.ContactInfo message = ContactProtos.ContactInfo.parseFrom(encodedContactInfo);
+            return new ContactInfo(message.getId(), message.getFirstName(), message.getLastName(), message.getEmail(),
+                    message.hasPhoneNumber() ? message.getPhoneNumber() : null, message.getCompanyName(),
+                    message.hasComment() ? message.getComment() : null,
+                    LocalDateTime.parse(message.getCreatedDate()), LocalDateTime.parse(message.getLastUpdatedDate()),
+                    message.hasVersion() ? message.getVersion() : null);
+        }
+        return objectMapper.readValue(encodedContactInfo, ContactInfo.class);
+    }
+
+    @Benchmark
+    public List<ContactMinInfo> decodePage() throws IOException {
+        if (objectMapper == null) {
+            ContactProtos.ContactMinInfoPage message = ContactProtos.ContactMinInfoPage.parseFrom(encodedPage);
+            List<ContactMinInfo> content = new ArrayList<>(message.getContentCount());
+            for (ContactProtos.ContactMinInfo contact : message.getContentList()) {
+                content.add(new ContactMinInfo(contact.getId(), contact.getFullName(), contact.getEmail(),
+                        contact.hasPhoneNumber() ? contact.getPhoneNumber() : null, contact.getCompanyName()));
+            }
+            return content;
+        }
+        return objectMapper.readValue(encodedPage, PageContent.class).content;
+    }
+
+    private byte[] write(Object body, Type type) throws IOException {
+        MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+        converter.write(body, type, mediaType, outputMessage);
+        return outputMessage.getBodyAsBytes();
+    }
+
+    private static ObjectMapper objectMapper(JsonFactory factory) {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        if (factory != null) {
+            builder.factory(factory);
+        }
+        return builder.build();
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    static class PageContent {
+
+        public List<ContactMinInfo> content;
+    }
+}
@@ -0,0 +1,95 @@
+package hu.futureofmedia.task.contactsapi.utility;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.OutputStreamAppender;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.Logger;
+import org.slf4j.helpers.NOPLogger;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LoggerHelperBenchmark {
+
+    private LoggerContext loggerContext;
+
+    private Logger enabledLogger;
+
+    private AsyncRequestLogger asyncRequestLogger;
+
+    private RequestLogInterceptor interceptor;
+
+    private MockHttpServletRequest request;
+
+    private MockHttpServletResponse response;
+
+    private Object body;
+
+    @Setup
+    public void setUp() {
+        loggerContext = new LoggerContext();
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(loggerContext);
+        encoder.setPattern("%d %-5level [%thread] %logger{36} %X - %msg%n");
+        encoder.start();
+        OutputStreamAppender<ILoggingEvent> appender = new OutputStreamAppender<>();
+        appender.setContext(loggerContext);
+        appender.setEncoder(encoder);
+        appender.setOutputStream(OutputStream.nullOutputStream());
+        appender.start();
+        ch.qos.logback.classic.Logger logger = loggerContext.getLogger(LoggerHelperBenchmark.class);
+        logger.setLevel(Level.INFO);
+        logger.setAdditive(false);
+        logger.addAppender(appender);
+        enabledLogger = logger;
+
+        asyncRequestLogger = new AsyncRequestLogger(100_000, 1.0);
+        asyncRequestLogger.start();
+        interceptor = new RequestLogInterceptor(asyncRequestLogger);
+
+        request = new MockHttpServletRequest("GET", "/api/v1/contacts");
+        request.setQueryString("paging=slice&page=3");
+        response = new MockHttpServletResponse();
+        body = "ContactCreateUpdateCommand{firstName='John', lastName='Doe', email='john.doe@gmail.com', " +
+                "phoneNumber='36201234567', companyId=1, comment='John Doe comment'}";
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        asyncRequestLogger.stop();
+        loggerContext.stop();
+    }
+
+    @Benchmark
+    public void synchronousRequestLog() {
+        enabledLogger.info("HTTP request: {} {}{}; Body: {}",
+                request.getMethod(),
+                request.getRequestURI(),
+                request.getQueryString() == null ? "" : "?" + request.getQueryString(),
+                Arrays.stream(new Object[]{body})
+                        .map(Object::toString)
+                        .collect(Collectors.joining(", ")));
+    }
+
+    @Benchmark
+    public void asyncRequestLog() {
+        LoggerHelper.requestLog(enabledLogger, request, body);
+        interceptor.afterCompletion(request, response, null, null);
+    }
+
+    @Benchmark
+    public void asyncRequestLogDisabled() {
+        LoggerHelper.requestLog(NOPLogger.NOP_LOGGER, request, body);
+        interceptor.afterCompletion(request, response, null, null);
+    }
+}
@@ -0,0 +1,75 @@
+package hu.futureofmedia.task.contactsapi.validation;
+
+import com.google.i18n.phonenumbers.NumberParseException;
+import com.google.i18n.phonenumbers.PhoneNumberUtil;
+import com.google.i18n.phonenumbers.Phonenumber;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PhoneValidatorBenchmark {
+
+    private static final String VALID = "36201234567";
+
+    private static final String INVALID = "3620123456";
+
+    private static final String MALFORMED = "+36 20 123 4567";
+
+    private PhoneValidator validator;
+
+    @Setup
+    public void setUp() {
+        validator = new PhoneValidator();
+        validator.isValid(VALID, null);
+        validator.isValid(INVALID, null);
+    }
+
+    @Benchmark
+    public boolean libphonenumberValid() {
+        return validateWithLibphonenumberOnly(VALID);
+    }
+
+    @Benchmark
+    public boolean libphonenumberInvalid() {
+        return validateWithLibphonenumberOnly(INVALID);
+    }
+
+    @Benchmark
+    public boolean libphonenumberMalformed() {
+        return validateWithLibphonenumberOnly(MALFORMED);
+    }
+
+    @Benchmark
+    public boolean uncachedValid() {
+        return PhoneValidator.isValidE164(VALID);
+    }
+
+    @Benchmark
+    public boolean cachedValid() {
+        return validator.isValid(VALID, null);
+    }
+
+    @Benchmark
+    public boolean cachedInvalid() {
+        return validator.isValid(INVALID, null);
+    }
+
+    @Benchmark
+    public boolean precheckedMalformed() {
+        return validator.isValid(MALFORMED, null);
+    }
+
+    private static boolean validateWithLibphonenumberOnly(String value) {
+        PhoneNumberUtil phoneUtil = PhoneNumberUtil.getInstance();
+        try {
+            String phoneNumberWithPlus = '+' + value;
+            Phonenumber.PhoneNumber phoneNumber = phoneUtil.parse(phoneNumberWithPlus, null);
+            return phoneUtil.isValidNumber(phoneNumber) &&
+                    phoneNumberWithPlus.equals(phoneUtil.format(phoneNumber, PhoneNumberUtil.PhoneNumberFormat.E164));
+        } catch (NumberParseException ignored) {}
+        return false;
+    }
+}
@@ -2,8 +2,9 @@ package hu.futureofmedia.task.contactsapi;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration;
 
-@SpringBootApplication
+@SpringBootApplication(exclude = R2dbcTransactionManagerAutoConfiguration.class)
 public class ContactsApiApplication {
     public static void main(String[] args) {
         SpringApplication.run(ContactsApiApplication.class, args);
@@ -0,0 +1,14 @@
+package hu.futureofmedia.task.contactsapi.configuration;
+
+import com.fasterxml.jackson.datatype.jsr353.JSR353Module;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JacksonConfiguration {
+
+    @Bean
+    public JSR353Module jsr353Module() {
+        return new JSR353Module();
+    }
+}
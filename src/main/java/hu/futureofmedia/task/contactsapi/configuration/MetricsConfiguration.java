@@ -0,0 +1,118 @@
+package hu.futureofmedia.task.contactsapi.configuration;
+
+import hu.futureofmedia.task.contactsapi.service.CompanyService;
+import hu.futureofmedia.task.contactsapi.service.ContactChangeCounter;
+import hu.futureofmedia.task.contactsapi.service.ContactEventBroadcaster;
+import hu.futureofmedia.task.contactsapi.service.ContactResponseCache;
+import hu.futureofmedia.task.contactsapi.service.ContactSuggestionService;
+import hu.futureofmedia.task.contactsapi.utility.AsyncRequestLogger;
+import hu.futureofmedia.task.contactsapi.utility.HibernateRequestStatistics;
+import hu.futureofmedia.task.contactsapi.utility.PersistenceMetricsInterceptor;
+import hu.futureofmedia.task.contactsapi.validation.PhoneValidator;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.function.ToDoubleFunction;
+
+@Configuration
+public class MetricsConfiguration {
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateRequestStatisticsCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.INTERCEPTOR, new HibernateRequestStatistics());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, HibernateRequestStatistics.StatementCounter.class.getName());
+        };
+    }
+
+    @Bean
+    public WebMvcConfigurer persistenceMetricsConfigurer(MeterRegistry meterRegistry) {
+        PersistenceMetricsInterceptor interceptor = new PersistenceMetricsInterceptor(meterRegistry);
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(interceptor);
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder cacheMetrics(ContactResponseCache contactResponseCache, CompanyService companyService) {
+        return registry -> {
+            cacheGets(registry, "contact-response", contactResponseCache,
+                    ContactResponseCache::getHitCount, ContactResponseCache::getMissCount);
+            FunctionCounter.builder("cache.evictions", contactResponseCache, ContactResponseCache::getEvictionCount)
+                    .tag("cache", "contact-response")
+                    .register(registry);
+            Gauge.builder("cache.size", contactResponseCache, ContactResponseCache::getSize)
+                    .tag("cache", "contact-response")
+                    .register(registry);
+
+            cacheGets(registry, "company", companyService,
+                    CompanyService::getHitCount, CompanyService::getMissCount);
+            FunctionCounter.builder("contacts.company.snapshot.refreshes", companyService, CompanyService::getRefreshCount)
+                    .register(registry);
+
+            cacheGets(registry, "phone-validation", PhoneValidator.class,
+                    validator -> PhoneValidator.getMemoHitCount(), validator -> PhoneValidator.getMemoMissCount());
+        };
+    }
+
+    @Bean
+    public MeterBinder contactIndexMetrics(ContactSuggestionService contactSuggestionService, ContactChangeCounter contactChangeCounter) {
+        return registry -> {
+            Gauge.builder("contacts.suggestion.index.size", contactSuggestionService, ContactSuggestionService::getIndexedContactCount)
+                    .register(registry);
+            FunctionCounter.builder("contacts.changes", contactChangeCounter, ContactChangeCounter::getChangeCount)
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder contactEventMetrics(ContactEventBroadcaster contactEventBroadcaster) {
+        return registry -> {
+            Gauge.builder("contacts.events.subscribers", contactEventBroadcaster, ContactEventBroadcaster::getSubscriberCount)
+                    .register(registry);
+            FunctionCounter.builder("contacts.events.resyncs", contactEventBroadcaster, ContactEventBroadcaster::getResyncCount)
+                    .register(registry);
+            FunctionCounter.builder("contacts.events.evictions", contactEventBroadcaster, ContactEventBroadcaster::getEvictionCount)
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder requestLogMetrics(AsyncRequestLogger asyncRequestLogger) {
+        return registry -> {
+            FunctionCounter.builder("contacts.request.log.entries", asyncRequestLogger, AsyncRequestLogger::getWrittenCount)
+                    .tag("result", "written")
+                    .register(registry);
+            FunctionCounter.builder("contacts.request.log.entries", asyncRequestLogger, AsyncRequestLogger::getDroppedCount)
+                    .tag("result", "dropped")
+                    .register(registry);
+            FunctionCounter.builder("contacts.request.log.entries", asyncRequestLogger, AsyncRequestLogger::getSampledOutCount)
+                    .tag("result", "sampled-out")
+                    .register(registry);
+            Gauge.builder("contacts.request.log.queue.size", asyncRequestLogger, AsyncRequestLogger::getQueueSize)
+                    .register(registry);
+        };
+    }
+
+    private static <T> void cacheGets(MeterRegistry registry, String cache, T source, ToDoubleFunction<T> hits, ToDoubleFunction<T> misses) {
+        FunctionCounter.builder("cache.gets", source, hits)
+                .tag("cache", cache)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", source, misses)
+                .tag("cache", cache)
+                .tag("result", "miss")
+                .register(registry);
+    }
+}
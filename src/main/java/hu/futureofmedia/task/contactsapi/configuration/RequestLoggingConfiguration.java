@@ -0,0 +1,31 @@
+package hu.futureofmedia.task.contactsapi.configuration;
+
+import hu.futureofmedia.task.contactsapi.utility.AsyncRequestLogger;
+import hu.futureofmedia.task.contactsapi.utility.RequestLogInterceptor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class RequestLoggingConfiguration implements WebMvcConfigurer {
+
+    private final AsyncRequestLogger asyncRequestLogger;
+
+    public RequestLoggingConfiguration(
+            @Value("${contact.request-log.queue-capacity:10000}") int queueCapacity,
+            @Value("${contact.request-log.success-sample-rate:1.0}") double successSampleRate) {
+        this.asyncRequestLogger = new AsyncRequestLogger(queueCapacity, successSampleRate);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public AsyncRequestLogger asyncRequestLogger() {
+        return asyncRequestLogger;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new RequestLogInterceptor(asyncRequestLogger));
+    }
+}
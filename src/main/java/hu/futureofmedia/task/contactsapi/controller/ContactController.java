@@ -1,10 +1,27 @@
 package hu.futureofmedia.task.contactsapi.controller;
 
+import hu.futureofmedia.task.contactsapi.dto.ContactBatchItemResult;
+import hu.futureofmedia.task.contactsapi.dto.ContactBatchResult;
+import hu.futureofmedia.task.contactsapi.dto.ContactBulkDeleteCommand;
+import hu.futureofmedia.task.contactsapi.dto.ContactBulkResult;
+import hu.futureofmedia.task.contactsapi.dto.ContactChangePage;
+import hu.futureofmedia.task.contactsapi.dto.ContactCompanyReassignCommand;
 import hu.futureofmedia.task.contactsapi.dto.ContactCreateUpdateCommand;
+import hu.futureofmedia.task.contactsapi.dto.ContactCursorPage;
+import hu.futureofmedia.task.contactsapi.dto.ContactFileFormat;
 import hu.futureofmedia.task.contactsapi.dto.ContactInfo;
 import hu.futureofmedia.task.contactsapi.dto.ContactMinInfo;
+import hu.futureofmedia.task.contactsapi.dto.ContactSuggestion;
+import hu.futureofmedia.task.contactsapi.dto.ContactVersion;
 import hu.futureofmedia.task.contactsapi.exception.ErrorMessage;
+import hu.futureofmedia.task.contactsapi.service.ContactChangeService;
+import hu.futureofmedia.task.contactsapi.service.ContactEventBroadcaster;
+import hu.futureofmedia.task.contactsapi.service.ContactExportService;
+import hu.futureofmedia.task.contactsapi.service.ContactImportService;
+import hu.futureofmedia.task.contactsapi.service.ContactResponseCache;
 import hu.futureofmedia.task.contactsapi.service.ContactService;
+import hu.futureofmedia.task.contactsapi.service.ContactSuggestionService;
+import hu.futureofmedia.task.contactsapi.utility.ContactProtobufHttpMessageConverter;
 import hu.futureofmedia.task.contactsapi.utility.LoggerHelper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -17,27 +34,81 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import javax.json.Json;
+import javax.json.JsonValue;
 import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
+import java.io.IOException;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static hu.futureofmedia.task.contactsapi.utility.ContactProtobufHttpMessageConverter.APPLICATION_PROTOBUF_VALUE;
 
 @RestController
 @RequestMapping(
         path = "/api/v1/contacts",
-        produces = MediaType.APPLICATION_JSON_VALUE)
+        produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, ContactController.APPLICATION_SMILE_VALUE})
 public class ContactController {
 
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+
+    private static final String JSON_REPRESENTATION = "json";
+
+    private static final Map<MediaType, String> REPRESENTATIONS = representations();
+
+    private static final Pattern STRONG_VERSION_ETAG = Pattern.compile("\"(\\d{1,18})(-[a-z]+)?\"");
+
     private final ContactService contactService;
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ContactController.class);
 
+    private final ContactExportService contactExportService;
+
+    private final ContactImportService contactImportService;
+
+    private final ContactSuggestionService contactSuggestionService;
+
+    private final ContactResponseCache contactResponseCache;
+
+    private final ContactChangeService contactChangeService;
+
+    private final ContactEventBroadcaster contactEventBroadcaster;
+
     private final HttpServletRequest request;
 
-    public ContactController(ContactService contactService, HttpServletRequest request) {
+    public ContactController(
+            ContactService contactService,
+            ContactExportService contactExportService,
+            ContactImportService contactImportService,
+            ContactSuggestionService contactSuggestionService,
+            ContactResponseCache contactResponseCache,
+            ContactChangeService contactChangeService,
+            ContactEventBroadcaster contactEventBroadcaster,
+            HttpServletRequest request) {
         this.contactService = contactService;
+        this.contactExportService = contactExportService;
+        this.contactImportService = contactImportService;
+        this.contactSuggestionService = contactSuggestionService;
+        this.contactResponseCache = contactResponseCache;
+        this.contactChangeService = contactChangeService;
+        this.contactEventBroadcaster = contactEventBroadcaster;
         this.request = request;
     }
 
@@ -51,7 +122,7 @@ public class ContactController {
                     content = @Content(array = @ArraySchema(schema = @Schema(implementation = ErrorMessage.class)))),
             @ApiResponse(responseCode = "404", description = "Given company id not found",
                     content = @Content(array = @ArraySchema(schema = @Schema(implementation = ErrorMessage.class)))) })
-    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE, APPLICATION_PROTOBUF_VALUE})
     @ResponseStatus(HttpStatus.CREATED)
     public ContactInfo createContact(
             @Valid @RequestBody ContactCreateUpdateCommand command) {
@@ -59,6 +130,22 @@ public class ContactController {
         return contactService.createContact(command);
     }
 
+    @Operation(
+            summary = "Create contacts in bulk",
+            description = "Every contact is validated on its own, invalid ones are reported per item and the valid ones are created.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Contacts processed",
+                    content = @Content(schema = @Schema(implementation = ContactBatchResult.class))),
+            @ApiResponse(responseCode = "400", description = "Too many contacts in one request",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = ErrorMessage.class)))) })
+    @PostMapping(path = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseStatus(HttpStatus.OK)
+    public ContactBatchResult createContacts(
+            @RequestBody List<ContactCreateUpdateCommand> commands) {
+        LoggerHelper.requestLog(LOGGER, request, commands.size() + " contacts");
+        return contactService.createContacts(commands);
+    }
+
     @Operation(
             summary = "List contacts from given page",
             parameters = @Parameter(in = ParameterIn.QUERY, name = "page", description = "Searched page (0..N)",
@@ -68,12 +155,206 @@ public class ContactController {
                     content = @Content(array = @ArraySchema(schema = @Schema(implementation = ContactInfo.class)))),
             @ApiResponse(responseCode = "400", description = "Given page is negative",
                     content = @Content(array = @ArraySchema(schema = @Schema(implementation = ErrorMessage.class)))) })
-    @GetMapping
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE, APPLICATION_PROTOBUF_VALUE})
+    public ResponseEntity<Page<ContactMinInfo>> getAllContacts(
+            @RequestParam(value = "page", defaultValue = "0") Integer page,
+            WebRequest webRequest) {
+        LoggerHelper.requestLog(LOGGER, request);
+        return listResponse(webRequest, () -> contactService.getAllContacts(page));
+    }
+
+    @Operation(
+            summary = "List contacts from given page without counting all contacts",
+            parameters = {
+                    @Parameter(in = ParameterIn.QUERY, name = "paging", required = true,
+                            content = @Content(schema = @Schema(allowableValues = "slice"))),
+                    @Parameter(in = ParameterIn.QUERY, name = "page", description = "Searched page (0..N)",
+                            content = @Content(schema = @Schema(defaultValue = "0", example = "0")))})
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Contacts listed",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = ContactMinInfo.class)))),
+            @ApiResponse(responseCode = "400", description = "Given page is negative",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = ErrorMessage.class)))) })
+    @GetMapping(params = {"paging=slice", "!cursor"}, produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE, APPLICATION_PROTOBUF_VALUE})
+    public ResponseEntity<Slice<ContactMinInfo>> getAllContactsAsSlice(
+            @RequestParam(value = "page", defaultValue = "0") Integer page,
+            WebRequest webRequest) {
+        LoggerHelper.requestLog(LOGGER, request);
+        return listResponse(webRequest, () -> contactService.getAllContactsAsSlice(page));
+    }
+
+    @Operation(
+            summary = "List contacts from given page with estimated total count",
+            parameters = {
+                    @Parameter(in = ParameterIn.QUERY, name = "paging", required = true,
+                            content = @Content(schema = @Schema(allowableValues = "estimated"))),
+                    @Parameter(in = ParameterIn.QUERY, name = "page", description = "Searched page (0..N)",
+                            content = @Content(schema = @Schema(defaultValue = "0", example = "0")))})
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Contacts listed",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = ContactMinInfo.class)))),
+            @ApiResponse(responseCode = "400", description = "Given page is negative",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = ErrorMessage.class)))) })
+    @GetMapping(params = {"paging=estimated", "!cursor"}, produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE, APPLICATION_PROTOBUF_VALUE})
+    public ResponseEntity<Page<ContactMinInfo>> getAllContactsWithEstimatedTotal(
+            @RequestParam(value = "page", defaultValue = "0") Integer page,
+            WebRequest webRequest) {
+        LoggerHelper.requestLog(LOGGER, request);
+        return listResponse(webRequest, () -> contactService.getAllContactsWithEstimatedTotal(page));
+    }
+
+    @Operation(
+            summary = "List contacts with keyset pagination",
+            parameters = @Parameter(in = ParameterIn.QUERY, name = "cursor", description = "Cursor of the searched page, empty for the first page",
+                    content = @Content(schema = @Schema(defaultValue = ""))))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Contacts listed",
+                    content = @Content(schema = @Schema(implementation = ContactCursorPage.class))),
+            @ApiResponse(responseCode = "400", description = "Given cursor is invalid",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = ErrorMessage.class)))) })
+    @GetMapping(params = "cursor")
+    public ResponseEntity<ContactCursorPage> getAllContactsByCursor(
+            @RequestParam(value = "cursor", defaultValue = "") String cursor,
+            WebRequest webRequest) {
+        LoggerHelper.requestLog(LOGGER, request);
+        if (webRequest.checkNotModified(listETag())) {
+            return null;
+        }
+        ContactCursorPage page = contactService.getAllContactsByCursor(cursor);
+        List<String> links = new ArrayList<>();
+        if (page.getNext() != null) {
+            links.add(cursorLink(page.getNext(), "next"));
+        }
+        if (page.getPrevious() != null) {
+            links.add(cursorLink(page.getPrevious(), "prev"));
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (!links.isEmpty()) {
+            response.header(HttpHeaders.LINK, String.join(", ", links));
+        }
+        return response.body(page);
+    }
+
+    @Operation(
+            summary = "List created, updated and deleted contacts in the order of their changes",
+            description = "Deleted contacts are returned as tombstones without contact data. " +
+                    "On PostgreSQL changes are held back while an older transaction is still running, " +
+                    "so a client following the returned cursors does not skip a change, but a long running transaction delays the feed. " +
+                    "On H2 only the changes of the last settle time (contact.changes.settle-time) are held back, " +
+                    "a transaction committing later than that can be skipped.",
+            parameters = @Parameter(in = ParameterIn.QUERY, name = "cursor", description = "Cursor returned by the previous call, empty for a full sync",
+                    content = @Content(schema = @Schema(defaultValue = ""))))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Changes listed",
+                    content = @Content(schema = @Schema(implementation = ContactChangePage.class))),
+            @ApiResponse(responseCode = "400", description = "Given cursor is invalid",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = ErrorMessage.class)))) })
+    @GetMapping("/changes")
+    @ResponseStatus(HttpStatus.OK)
+    public ContactChangePage getChanges(
+            @RequestParam(value = "cursor", defaultValue = "") String cursor) {
+        LoggerHelper.requestLog(LOGGER, request);
+        return contactChangeService.getChanges(cursor);
+    }
+
+    @Operation(
+            summary = "Stream contact changes as Server-Sent Events",
+            description = "Pushes a `contact` event for every created, updated and deleted contact once its transaction " +
+                    "is committed. A `resync` event means events were dropped for a slow client or are no longer " +
+                    "available to resume from, the changes have to be fetched from the changes endpoint then.",
+            parameters = @Parameter(in = ParameterIn.HEADER, name = "Last-Event-ID", description = "ID of the last received event to resume after"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Event stream opened",
+                    content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE)) })
+    @GetMapping(path = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        LoggerHelper.requestLog(LOGGER, request);
+        return contactEventBroadcaster.subscribe(lastEventId);
+    }
+
+    @Operation(
+            summary = "Search contacts by name, email and comment",
+            description = "On PostgreSQL every word of the query has to match the beginning of a word of the contact's name, " +
+                    "email or comment, and results are ranked by relevance. If more contacts match than contact.search.max-candidates, " +
+                    "only that many of them are ranked. On H2 every word has to match the beginning " +
+                    "of the contact's first name, last name or email, and results are ordered by name.",
+            parameters = {
+                    @Parameter(in = ParameterIn.QUERY, name = "q", required = true, example = "john doe"),
+                    @Parameter(in = ParameterIn.QUERY, name = "page", description = "Searched page (0..N)",
+                            content = @Content(schema = @Schema(defaultValue = "0", example = "0")))})
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Matching contacts listed",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = ContactMinInfo.class)))),
+            @ApiResponse(responseCode = "400", description = "Query has no words or given page is negative",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = ErrorMessage.class)))) })
+    @GetMapping(path = "/search", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE, APPLICATION_PROTOBUF_VALUE})
+    public ResponseEntity<Slice<ContactMinInfo>> searchContacts(
+            @RequestParam("q") String query,
+            @RequestParam(value = "page", defaultValue = "0") Integer page,
+            WebRequest webRequest) {
+        LoggerHelper.requestLog(LOGGER, request);
+        return listResponse(webRequest, () -> contactService.searchContacts(query, page));
+    }
+
+    @Operation(
+            summary = "Suggest contacts whose name starts with the given text",
+            description = "Served from an in-memory index, matches first name first or last name first, " +
+                    "ignoring case and accents.",
+            parameters = {
+                    @Parameter(in = ParameterIn.QUERY, name = "q", required = true, example = "doe j")})
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Suggestions listed",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = ContactSuggestion.class)))) })
+    @GetMapping("/suggest")
     @ResponseStatus(HttpStatus.OK)
-    public Page<ContactMinInfo> getAllContacts(
-            @RequestParam(value = "page", defaultValue = "0") Integer page) {
+    public List<ContactSuggestion> suggestContacts(@RequestParam("q") String query) {
         LoggerHelper.requestLog(LOGGER, request);
-        return contactService.getAllContacts(page);
+        return contactSuggestionService.suggestContacts(query);
+    }
+
+    @Operation(
+            summary = "Export all contacts",
+            description = "Streams every contact ordered by ID as newline delimited JSON or CSV.",
+            parameters = @Parameter(in = ParameterIn.QUERY, name = "format", description = "Format of the export",
+                    content = @Content(schema = @Schema(allowableValues = {"ndjson", "csv"}, defaultValue = "ndjson"))))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Contacts exported",
+                    content = {
+                            @Content(mediaType = "application/x-ndjson", schema = @Schema(implementation = ContactInfo.class)),
+                            @Content(mediaType = "text/csv")}),
+            @ApiResponse(responseCode = "400", description = "Given format is not supported",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = ErrorMessage.class)))) })
+    @GetMapping(path = "/export", produces = {"application/x-ndjson", "text/csv", MediaType.APPLICATION_JSON_VALUE})
+    public void exportContacts(
+            @RequestParam(value = "format", defaultValue = "ndjson") String format,
+            HttpServletResponse response) throws IOException {
+        LoggerHelper.requestLog(LOGGER, request);
+        ContactFileFormat exportFormat = ContactFileFormat.of(format);
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(exportFormat.getMediaType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"contacts." + exportFormat.getExtension() + "\"");
+        contactExportService.exportContacts(exportFormat, response.getOutputStream());
+    }
+
+    @Operation(
+            summary = "Import contacts",
+            description = "Reads newline delimited JSON or CSV (with header) contacts incrementally, commits them in chunks " +
+                    "and streams back one result line per row.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Contacts processed",
+                    content = @Content(mediaType = "application/x-ndjson", schema = @Schema(implementation = ContactBatchItemResult.class))),
+            @ApiResponse(responseCode = "400", description = "Given content type is not supported",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = ErrorMessage.class)))) })
+    @PostMapping(path = "/import", consumes = {"application/x-ndjson", "text/csv"}, produces = {"application/x-ndjson", MediaType.APPLICATION_JSON_VALUE})
+    public void importContacts(HttpServletResponse response) throws IOException {
+        LoggerHelper.requestLog(LOGGER, request, "streamed body");
+        ContactFileFormat importFormat = ContactFileFormat.ofMediaType(request.getContentType());
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType("application/x-ndjson");
+        response.setCharacterEncoding("UTF-8");
+        contactImportService.importContacts(importFormat, request.getInputStream(), response.getOutputStream());
     }
 
     @Operation(
@@ -82,46 +363,207 @@ public class ContactController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Contact found",
                     content = @Content(schema = @Schema(implementation = ContactInfo.class))),
+            @ApiResponse(responseCode = "304", description = "Contact not modified since the given ETag or date",
+                    content = @Content),
             @ApiResponse(responseCode = "404", description = "Contact not found with given ID",
                     content = @Content(array = @ArraySchema(schema = @Schema(implementation = ErrorMessage.class)))) })
-    @GetMapping("/{id}")
-    @ResponseStatus(HttpStatus.OK)
-    public ContactInfo getContact(
-            @PathVariable("id") Long id) {
+    @GetMapping(path = "/{id}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE, APPLICATION_PROTOBUF_VALUE})
+    public ResponseEntity<Object> getContact(
+            @PathVariable("id") Long id,
+            WebRequest webRequest) {
         LoggerHelper.requestLog(LOGGER, request);
-        return contactService.getContact(id);
+        ContactVersion version = contactService.getContactVersion(id);
+        long lastModified = version.getLastModifiedDate().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        if (webRequest.checkNotModified(contactETag(version.getVersion()), lastModified)) {
+            return null;
+        }
+        if (!JSON_REPRESENTATION.equals(representation())) {
+            return ResponseEntity.ok()
+                    .varyBy(HttpHeaders.ACCEPT)
+                    .body(contactService.getContact(id));
+        }
+        return ResponseEntity.ok()
+                .varyBy(HttpHeaders.ACCEPT)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(contactResponseCache.getContact(id, version.getVersion(), contactService::getContact));
     }
 
     @Operation(
             summary = "Update contact by ID",
-            parameters = @Parameter(in = ParameterIn.PATH, name = "id", example = "1", description = "ID of contact"))
+            parameters = {
+                    @Parameter(in = ParameterIn.PATH, name = "id", example = "1", description = "ID of contact"),
+            @Parameter(in = ParameterIn.HEADER, name = "If-Match", description = "ETag of the contact version the change is based on")})
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Contact updated",
                     content = @Content(schema = @Schema(implementation = ContactInfo.class))),
             @ApiResponse(responseCode = "400", description = "Input data not appropriate",
                     content = @Content(array = @ArraySchema(schema = @Schema(implementation = ErrorMessage.class)))),
             @ApiResponse(responseCode = "404", description = "Contact or company not found with given ID",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = ErrorMessage.class)))),
+            @ApiResponse(responseCode = "412", description = "Contact was modified since the given version",
                     content = @Content(array = @ArraySchema(schema = @Schema(implementation = ErrorMessage.class)))) })
-    @PutMapping(path = "/{id}", consumes = MediaType.APPLICATION_JSON_VALUE)
-    @ResponseStatus(HttpStatus.OK)
-    public ContactInfo updateContact(
+    @PutMapping(path = "/{id}", consumes = MediaType.APPLICATION_JSON_VALUE, produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE, APPLICATION_PROTOBUF_VALUE})
+    public ResponseEntity<ContactInfo> updateContact(
             @PathVariable("id") Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody ContactCreateUpdateCommand command) {
         LoggerHelper.requestLog(LOGGER, request, command);
-        return contactService.updateContact(id, command);
+        return versionedResponse(contactService.updateContact(id, command, expectedVersion(ifMatch)));
+    }
+
+    @Operation(
+            summary = "Partially update contact by ID",
+            description = "Applies a JSON Merge Patch (RFC 7386). Only the fields present in the patch are validated and written, " +
+                    "a null value removes the phone number.",
+            parameters = {
+                    @Parameter(in = ParameterIn.PATH, name = "id", example = "1", description = "ID of contact"),
+            @Parameter(in = ParameterIn.HEADER, name = "If-Match", description = "ETag of the contact version the change is based on")})
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Contact updated",
+                    content = @Content(schema = @Schema(implementation = ContactInfo.class))),
+            @ApiResponse(responseCode = "400", description = "Patch not appropriate",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = ErrorMessage.class)))),
+            @ApiResponse(responseCode = "404", description = "Contact or company not found with given ID",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = ErrorMessage.class)))),
+            @ApiResponse(responseCode = "412", description = "Contact was modified since the given version",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = ErrorMessage.class)))) })
+    @PatchMapping(path = "/{id}", consumes = "application/merge-patch+json", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE, APPLICATION_PROTOBUF_VALUE})
+    public ResponseEntity<ContactInfo> patchContact(
+            @PathVariable("id") Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    content = @Content(schema = @Schema(implementation = ContactCreateUpdateCommand.class)))
+            @RequestBody JsonValue patch) {
+        LoggerHelper.requestLog(LOGGER, request, patch);
+        return versionedResponse(contactService.patchContact(id, Json.createMergePatch(patch), expectedVersion(ifMatch)));
     }
 
     @Operation(
             summary = "Delete contact by ID",
-            parameters = @Parameter(in = ParameterIn.PATH, name = "id", example = "1", description = "ID of contact"))
+            parameters = {
+                    @Parameter(in = ParameterIn.PATH, name = "id", example = "1", description = "ID of contact"),
+            @Parameter(in = ParameterIn.HEADER, name = "If-Match", description = "ETag of the contact version the change is based on")})
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Contact deleted", content = @Content()),
-            @ApiResponse(responseCode = "404", description = "Contact not found with given ID", content = @Content())})
+            @ApiResponse(responseCode = "404", description = "Contact not found with given ID", content = @Content()),
+            @ApiResponse(responseCode = "412", description = "Contact was modified since the given version", content = @Content())})
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.OK)
     public void deleteContactBy(
-            @PathVariable("id") Long id) {
+            @PathVariable("id") Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         LoggerHelper.requestLog(LOGGER, request);
-        contactService.deleteContact(id);
+        contactService.deleteContact(id, expectedVersion(ifMatch));
+    }
+
+    @Operation(
+            summary = "Delete contacts in bulk",
+            description = "Deletes the contacts with the given IDs or every contact of the given company with a single update statement.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Contacts deleted",
+                    content = @Content(schema = @Schema(implementation = ContactBulkResult.class))),
+            @ApiResponse(responseCode = "400", description = "Not exactly one of ids and companyId given or too many ids",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = ErrorMessage.class)))),
+            @ApiResponse(responseCode = "404", description = "Given company id not found",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = ErrorMessage.class)))) })
+    @PostMapping(path = "/bulk-delete", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseStatus(HttpStatus.OK)
+    public ContactBulkResult deleteContacts(
+            @Valid @RequestBody ContactBulkDeleteCommand command) {
+        LoggerHelper.requestLog(LOGGER, request, command);
+        return contactService.deleteContacts(command);
+    }
+
+    @Operation(
+            summary = "Move every contact of a company to another company",
+            description = "Reassigns the contacts with a single update statement.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Contacts reassigned",
+                    content = @Content(schema = @Schema(implementation = ContactBulkResult.class))),
+            @ApiResponse(responseCode = "400", description = "Input data not appropriate or the companies are the same",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = ErrorMessage.class)))),
+            @ApiResponse(responseCode = "404", description = "Given company id not found",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = ErrorMessage.class)))) })
+    @PostMapping(path = "/reassign-company", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseStatus(HttpStatus.OK)
+    public ContactBulkResult reassignCompany(
+            @Valid @RequestBody ContactCompanyReassignCommand command) {
+        LoggerHelper.requestLog(LOGGER, request, command);
+        return contactService.reassignCompany(command);
+    }
+
+    private <T> ResponseEntity<T> listResponse(WebRequest webRequest, Supplier<T> page) {
+        if (webRequest.checkNotModified(listETag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(page.get());
+    }
+
+    /**
+     * Read before the page, from the same data source: a page read later can only be newer than its ETag, so a stale
+     * page is never cached under the ETag of a newer list.
+     */
+    private String listETag() {
+        return "W/\"" + contactChangeService.getListVersion() + '"';
+    }
+
+    private ResponseEntity<ContactInfo> versionedResponse(ContactInfo contact) {
+        return ResponseEntity.ok()
+                .eTag(contactETag(contact.getVersion()))
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(contact);
+    }
+
+    private static Map<MediaType, String> representations() {
+        Map<MediaType, String> representations = new LinkedHashMap<>();
+        representations.put(MediaType.APPLICATION_JSON, JSON_REPRESENTATION);
+        representations.put(MediaType.APPLICATION_CBOR, "cbor");
+        representations.put(MediaType.valueOf(APPLICATION_SMILE_VALUE), "smile");
+        representations.put(ContactProtobufHttpMessageConverter.APPLICATION_PROTOBUF, "protobuf");
+        return representations;
+    }
+
+    private String representation() {
+        List<MediaType> acceptable = MediaType.parseMediaTypes(request.getHeader(HttpHeaders.ACCEPT));
+        MediaType.sortBySpecificityAndQuality(acceptable);
+        for (MediaType mediaType : acceptable) {
+            if (mediaType.getQualityValue() == 0) {
+                continue;
+            }
+            for (Map.Entry<MediaType, String> representation : REPRESENTATIONS.entrySet()) {
+                if (mediaType.includes(representation.getKey())) {
+                    return representation.getValue();
+                }
+            }
+        }
+        return JSON_REPRESENTATION;
+    }
+
+    /**
+     * Every format of a version is a different representation, so each gets its own strong ETag. If-Match only
+     * compares the version.
+     */
+    private String contactETag(Long version) {
+        return "\"" + version + '-' + representation() + '"';
+    }
+
+    private Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        Matcher eTag = STRONG_VERSION_ETAG.matcher(ifMatch.trim());
+        if (!eTag.matches()) {
+            throw new IllegalArgumentException("If-Match must be a single strong ETag of the contact!");
+        }
+        return Long.valueOf(eTag.group(1));
+    }
+
+    private String cursorLink(String cursor, String relation) {
+        String uri = ServletUriComponentsBuilder.fromCurrentRequest()
+                .replaceQueryParam("cursor", cursor)
+                .toUriString();
+        return "<" + uri + ">; rel=\"" + relation + "\"";
     }
 }
@@ -0,0 +1,93 @@
+package hu.futureofmedia.task.contactsapi.controller;
+
+import hu.futureofmedia.task.contactsapi.dto.ContactInfo;
+import hu.futureofmedia.task.contactsapi.dto.ContactMinInfo;
+import hu.futureofmedia.task.contactsapi.exception.ErrorMessage;
+import hu.futureofmedia.task.contactsapi.service.ContactReactiveService;
+import hu.futureofmedia.task.contactsapi.utility.LoggerHelper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import javax.servlet.http.HttpServletRequest;
+
+@RestController
+@RequestMapping(
+        path = "/api/v2/contacts",
+        produces = MediaType.APPLICATION_JSON_VALUE)
+public class ContactReactiveController {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ContactReactiveController.class);
+
+    private final ContactReactiveService contactReactiveService;
+
+    private final HttpServletRequest request;
+
+    public ContactReactiveController(
+            ContactReactiveService contactReactiveService,
+            HttpServletRequest request) {
+        this.contactReactiveService = contactReactiveService;
+        this.request = request;
+    }
+
+    @Operation(
+            summary = "List contacts from given page",
+            description = "Reads the database without blocking a request thread.",
+            parameters = @Parameter(in = ParameterIn.QUERY, name = "page", description = "Searched page (0..N)",
+                    content = @Content(schema = @Schema(defaultValue = "0", example = "0"))))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Contacts listed",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = ContactMinInfo.class)))),
+            @ApiResponse(responseCode = "400", description = "Given page is negative",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = ErrorMessage.class)))) })
+    @GetMapping
+    @ResponseStatus(HttpStatus.OK)
+    public Mono<Page<ContactMinInfo>> getAllContacts(
+            @RequestParam(value = "page", defaultValue = "0") Integer page) {
+        LoggerHelper.requestLog(LOGGER, request);
+        return contactReactiveService.getAllContacts(page);
+    }
+
+    @Operation(
+            summary = "Stream all contacts",
+            description = "Streams every contact ordered by name as newline delimited JSON. " +
+                    "Rows are read from the database only as fast as the client consumes them.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Contacts streamed",
+                    content = @Content(mediaType = "application/x-ndjson", schema = @Schema(implementation = ContactMinInfo.class))) })
+    @GetMapping(path = "/stream", produces = "application/x-ndjson")
+    @ResponseStatus(HttpStatus.OK)
+    public Flux<ContactMinInfo> streamAllContacts() {
+        LoggerHelper.requestLog(LOGGER, request);
+        return contactReactiveService.streamAllContacts();
+    }
+
+    @Operation(
+            summary = "Get contact details by ID",
+            parameters = @Parameter(in = ParameterIn.PATH, name = "id", example = "1", description = "ID of contact"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Contact found",
+                    content = @Content(schema = @Schema(implementation = ContactInfo.class))),
+            @ApiResponse(responseCode = "404", description = "Contact not found with given ID",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = ErrorMessage.class)))) })
+    @GetMapping("/{id}")
+    @ResponseStatus(HttpStatus.OK)
+    public Mono<ContactInfo> getContact(
+            @PathVariable("id") Long id) {
+        LoggerHelper.requestLog(LOGGER, request);
+        return contactReactiveService.getContact(id);
+    }
+}
@@ -0,0 +1,68 @@
+package hu.futureofmedia.task.contactsapi.dto;
+
+import hu.futureofmedia.task.contactsapi.exception.ErrorMessage;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.Objects;
+
+public class ContactBatchItemResult {
+
+    @Schema(example = "0", description = "Position of the contact in the request (0..N)")
+    private long index;
+
+    @Schema(example = "1", description = "ID of the created contact, null if the contact was rejected")
+    private Long id;
+
+    private List<ErrorMessage> errors;
+
+    public ContactBatchItemResult() {}
+
+    public ContactBatchItemResult(long index, Long id, List<ErrorMessage> errors) {
+        this.index = index;
+        this.id = id;
+        this.errors = errors;
+    }
+
+    public static ContactBatchItemResult created(long index, Long id) {
+        return new ContactBatchItemResult(index, id, List.of());
+    }
+
+    public static ContactBatchItemResult rejected(long index, List<ErrorMessage> errors) {
+        return new ContactBatchItemResult(index, null, errors);
+    }
+
+    public long getIndex() {
+        return index;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public List<ErrorMessage> getErrors() {
+        return errors;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ContactBatchItemResult that = (ContactBatchItemResult) o;
+        return index == that.index && Objects.equals(id, that.id) && errors.equals(that.errors);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(index, id, errors);
+    }
+
+    @Override
+    public String toString() {
+        return "ContactBatchItemResult{" +
+                "index=" + index +
+                ", id=" + id +
+                ", errors=" + errors +
+                '}';
+    }
+}
@@ -0,0 +1,59 @@
+package hu.futureofmedia.task.contactsapi.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.Objects;
+
+public class ContactBatchResult {
+
+    @Schema(example = "2")
+    private int created;
+
+    @Schema(example = "1")
+    private int rejected;
+
+    private List<ContactBatchItemResult> items;
+
+    public ContactBatchResult() {}
+
+    public ContactBatchResult(List<ContactBatchItemResult> items) {
+        this.items = items;
+        this.created = (int) items.stream().filter(item -> item.getId() != null).count();
+        this.rejected = items.size() - created;
+    }
+
+    public int getCreated() {
+        return created;
+    }
+
+    public int getRejected() {
+        return rejected;
+    }
+
+    public List<ContactBatchItemResult> getItems() {
+        return items;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ContactBatchResult that = (ContactBatchResult) o;
+        return created == that.created && rejected == that.rejected && items.equals(that.items);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(created, rejected, items);
+    }
+
+    @Override
+    public String toString() {
+        return "ContactBatchResult{" +
+                "created=" + created +
+                ", rejected=" + rejected +
+                ", items=" + items +
+                '}';
+    }
+}
@@ -0,0 +1,62 @@
+package hu.futureofmedia.task.contactsapi.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+import java.util.List;
+import java.util.Objects;
+
+public class ContactBulkDeleteCommand {
+
+    @Schema(description = "IDs of the contacts to delete, exclusive with companyId", example = "[1, 2, 3]")
+    private List<@NotNull @Positive Long> ids;
+
+    @Schema(description = "Delete every contact of this company, exclusive with ids", example = "1")
+    @Positive
+    private Long companyId;
+
+    public ContactBulkDeleteCommand() {}
+
+    public ContactBulkDeleteCommand(List<Long> ids, Long companyId) {
+        this.ids = ids;
+        this.companyId = companyId;
+    }
+
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+
+    public Long getCompanyId() {
+        return companyId;
+    }
+
+    public void setCompanyId(Long companyId) {
+        this.companyId = companyId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ContactBulkDeleteCommand that = (ContactBulkDeleteCommand) o;
+        return Objects.equals(ids, that.ids) && Objects.equals(companyId, that.companyId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(ids, companyId);
+    }
+
+    @Override
+    public String toString() {
+        return "ContactBulkDeleteCommand{" +
+                "ids=" + ids +
+                ", companyId=" + companyId +
+                '}';
+    }
+}
@@ -0,0 +1,41 @@
+package hu.futureofmedia.task.contactsapi.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Objects;
+
+public class ContactBulkResult {
+
+    @Schema(description = "Number of contacts changed", example = "3")
+    private int affected;
+
+    public ContactBulkResult() {}
+
+    public ContactBulkResult(int affected) {
+        this.affected = affected;
+    }
+
+    public int getAffected() {
+        return affected;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ContactBulkResult that = (ContactBulkResult) o;
+        return affected == that.affected;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(affected);
+    }
+
+    @Override
+    public String toString() {
+        return "ContactBulkResult{" +
+                "affected=" + affected +
+                '}';
+    }
+}
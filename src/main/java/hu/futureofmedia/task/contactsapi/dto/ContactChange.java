@@ -0,0 +1,86 @@
+package hu.futureofmedia.task.contactsapi.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+public class ContactChange {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    private Type type;
+
+    @Schema(example = "1")
+    private Long id;
+
+    @Schema(example = "2021-08-20T10:15:30.123456")
+    private LocalDateTime changedDate;
+
+    private long changeSeq;
+
+    @Schema(description = "Current state of the contact, null for deleted contacts")
+    private ContactInfo contact;
+
+    public ContactChange() {}
+
+    public ContactChange(Type type, Long id, LocalDateTime changedDate, long changeSeq, ContactInfo contact) {
+        this.type = type;
+        this.id = id;
+        this.changedDate = changedDate;
+        this.changeSeq = changeSeq;
+        this.contact = contact;
+    }
+
+    public static ContactChange deleted(Long id, LocalDateTime changedDate, long changeSeq) {
+        return new ContactChange(Type.DELETED, id, changedDate, changeSeq, null);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public LocalDateTime getChangedDate() {
+        return changedDate;
+    }
+
+    @JsonIgnore
+    public long getChangeSeq() {
+        return changeSeq;
+    }
+
+    public ContactInfo getContact() {
+        return contact;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ContactChange that = (ContactChange) o;
+        return type == that.type && id.equals(that.id) && changedDate.equals(that.changedDate) && changeSeq == that.changeSeq && Objects.equals(contact, that.contact);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, id, changedDate, changeSeq, contact);
+    }
+
+    @Override
+    public String toString() {
+        return "ContactChange{" +
+                "type=" + type +
+                ", id=" + id +
+                ", changedDate=" + changedDate +
+                ", changeSeq=" + changeSeq +
+                ", contact=" + contact +
+                '}';
+    }
+}
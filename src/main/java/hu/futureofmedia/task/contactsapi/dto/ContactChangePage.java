@@ -0,0 +1,59 @@
+package hu.futureofmedia.task.contactsapi.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.Objects;
+
+public class ContactChangePage {
+
+    private List<ContactChange> changes;
+
+    @Schema(description = "Opaque cursor to request the following changes with, null while nothing has changed yet")
+    private String next;
+
+    @Schema(description = "Whether further changes can be requested right away")
+    private boolean hasMore;
+
+    public ContactChangePage() {}
+
+    public ContactChangePage(List<ContactChange> changes, String next, boolean hasMore) {
+        this.changes = changes;
+        this.next = next;
+        this.hasMore = hasMore;
+    }
+
+    public List<ContactChange> getChanges() {
+        return changes;
+    }
+
+    public String getNext() {
+        return next;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ContactChangePage that = (ContactChangePage) o;
+        return hasMore == that.hasMore && changes.equals(that.changes) && Objects.equals(next, that.next);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(changes, next, hasMore);
+    }
+
+    @Override
+    public String toString() {
+        return "ContactChangePage{" +
+                "changes=" + changes +
+                ", next='" + next + '\'' +
+                ", hasMore=" + hasMore +
+                '}';
+    }
+}
@@ -0,0 +1,64 @@
+package hu.futureofmedia.task.contactsapi.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+import java.util.Objects;
+
+public class ContactCompanyReassignCommand {
+
+    @Schema(example = "1")
+    @NotNull
+    @Positive
+    private Long fromCompanyId;
+
+    @Schema(example = "2")
+    @NotNull
+    @Positive
+    private Long toCompanyId;
+
+    public ContactCompanyReassignCommand() {}
+
+    public ContactCompanyReassignCommand(Long fromCompanyId, Long toCompanyId) {
+        this.fromCompanyId = fromCompanyId;
+        this.toCompanyId = toCompanyId;
+    }
+
+    public Long getFromCompanyId() {
+        return fromCompanyId;
+    }
+
+    public void setFromCompanyId(Long fromCompanyId) {
+        this.fromCompanyId = fromCompanyId;
+    }
+
+    public Long getToCompanyId() {
+        return toCompanyId;
+    }
+
+    public void setToCompanyId(Long toCompanyId) {
+        this.toCompanyId = toCompanyId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ContactCompanyReassignCommand that = (ContactCompanyReassignCommand) o;
+        return Objects.equals(fromCompanyId, that.fromCompanyId) && Objects.equals(toCompanyId, that.toCompanyId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(fromCompanyId, toCompanyId);
+    }
+
+    @Override
+    public String toString() {
+        return "ContactCompanyReassignCommand{" +
+                "fromCompanyId=" + fromCompanyId +
+                ", toCompanyId=" + toCompanyId +
+                '}';
+    }
+}
@@ -0,0 +1,68 @@
+package hu.futureofmedia.task.contactsapi.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.Objects;
+
+public class ContactCursorPage {
+
+    private List<ContactMinInfo> content;
+
+    @Schema(example = "10")
+    private int size;
+
+    @Schema(description = "Opaque cursor of the next page, null on the last page")
+    private String next;
+
+    @Schema(description = "Opaque cursor of the previous page, null on the first page")
+    private String previous;
+
+    public ContactCursorPage() {}
+
+    public ContactCursorPage(List<ContactMinInfo> content, int size, String next, String previous) {
+        this.content = content;
+        this.size = size;
+        this.next = next;
+        this.previous = previous;
+    }
+
+    public List<ContactMinInfo> getContent() {
+        return content;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public String getNext() {
+        return next;
+    }
+
+    public String getPrevious() {
+        return previous;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ContactCursorPage that = (ContactCursorPage) o;
+        return size == that.size && content.equals(that.content) && Objects.equals(next, that.next) && Objects.equals(previous, that.previous);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(content, size, next, previous);
+    }
+
+    @Override
+    public String toString() {
+        return "ContactCursorPage{" +
+                "content=" + content +
+                ", size=" + size +
+                ", next='" + next + '\'' +
+                ", previous='" + previous + '\'' +
+                '}';
+    }
+}
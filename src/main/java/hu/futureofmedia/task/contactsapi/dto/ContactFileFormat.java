@@ -0,0 +1,39 @@
+package hu.futureofmedia.task.contactsapi.dto;
+
+import java.util.Arrays;
+
+public enum ContactFileFormat {
+
+    NDJSON("ndjson", "application/x-ndjson"),
+    CSV("csv", "text/csv");
+
+    private final String extension;
+    private final String mediaType;
+
+    ContactFileFormat(String extension, String mediaType) {
+        this.extension = extension;
+        this.mediaType = mediaType;
+    }
+
+    public static ContactFileFormat of(String format) {
+        return Arrays.stream(values())
+                .filter(value -> value.extension.equalsIgnoreCase(format))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(String.format("Unsupported format: %s", format)));
+    }
+
+    public static ContactFileFormat ofMediaType(String contentType) {
+        return Arrays.stream(values())
+                .filter(value -> contentType != null && contentType.toLowerCase().startsWith(value.mediaType))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(String.format("Unsupported content type: %s", contentType)));
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+}
@@ -1,5 +1,6 @@
 package hu.futureofmedia.task.contactsapi.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.time.LocalDateTime;
@@ -30,6 +31,8 @@ public class ContactInfo {
     private LocalDateTime createdDate;
     private LocalDateTime lastUpdatedDate;
 
+    private Long version;
+
     public ContactInfo() {}
 
     public ContactInfo(Long id, String firstName, String lastName, String email, String phoneNumber, String companyName, String comment, LocalDateTime createdDate, LocalDateTime lastUpdatedDate) {
@@ -44,6 +47,11 @@ public class ContactInfo {
         this.lastUpdatedDate = lastUpdatedDate;
     }
 
+    public ContactInfo(Long id, String firstName, String lastName, String email, String phoneNumber, String companyName, String comment, LocalDateTime createdDate, LocalDateTime lastUpdatedDate, Long version) {
+        this(id, firstName, lastName, email, phoneNumber, companyName, comment, createdDate, lastUpdatedDate);
+        this.version = version;
+    }
+
     public Long getId() {
         return id;
     }
@@ -80,17 +88,22 @@ public class ContactInfo {
         return lastUpdatedDate;
     }
 
+    @JsonIgnore
+    public Long getVersion() {
+        return version;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         ContactInfo that = (ContactInfo) o;
-        return id.equals(that.id) && firstName.equals(that.firstName) && lastName.equals(that.lastName) && email.equals(that.email) && Objects.equals(phoneNumber, that.phoneNumber) && companyName.equals(that.companyName) && comment.equals(that.comment) && createdDate.equals(that.createdDate) && lastUpdatedDate.equals(that.lastUpdatedDate);
+        return id.equals(that.id) && firstName.equals(that.firstName) && lastName.equals(that.lastName) && email.equals(that.email) && Objects.equals(phoneNumber, that.phoneNumber) && companyName.equals(that.companyName) && comment.equals(that.comment) && createdDate.equals(that.createdDate) && lastUpdatedDate.equals(that.lastUpdatedDate) && Objects.equals(version, that.version);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, firstName, lastName, email, phoneNumber, companyName, comment, createdDate, lastUpdatedDate);
+        return Objects.hash(id, firstName, lastName, email, phoneNumber, companyName, comment, createdDate, lastUpdatedDate, version);
     }
 
     @Override
@@ -105,6 +118,7 @@ public class ContactInfo {
                 ", comment='" + comment + '\'' +
                 ", createdDate=" + createdDate +
                 ", lastUpdatedDate=" + lastUpdatedDate +
+                ", version=" + version +
                 '}';
     }
 }
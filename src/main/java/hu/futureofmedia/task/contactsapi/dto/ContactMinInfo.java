@@ -1,5 +1,6 @@
 package hu.futureofmedia.task.contactsapi.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.util.Objects;
@@ -21,6 +22,10 @@ public class ContactMinInfo {
     @Schema(example = "Company #1")
     private String companyName;
 
+    private String firstName;
+
+    private String lastName;
+
     public ContactMinInfo() {}
 
     public ContactMinInfo(Long id, String fullName, String email, String phoneNumber, String companyName) {
@@ -31,6 +36,12 @@ public class ContactMinInfo {
         this.companyName = companyName;
     }
 
+    public ContactMinInfo(Long id, String firstName, String lastName, String email, String phoneNumber, String companyName) {
+        this(id, firstName + ' ' + lastName, email, phoneNumber, companyName);
+        this.firstName = firstName;
+        this.lastName = lastName;
+    }
+
     public Long getId() {
         return id;
     }
@@ -51,6 +62,16 @@ public class ContactMinInfo {
         return companyName;
     }
 
+    @JsonIgnore
+    public String getFirstName() {
+        return firstName;
+    }
+
+    @JsonIgnore
+    public String getLastName() {
+        return lastName;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -0,0 +1,63 @@
+package hu.futureofmedia.task.contactsapi.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Objects;
+
+public class ContactSuggestion {
+
+    @Schema(example = "1")
+    private final Long id;
+
+    private final String firstName;
+
+    private final String lastName;
+
+    public ContactSuggestion(Long id, String firstName, String lastName) {
+        this.id = id;
+        this.firstName = firstName;
+        this.lastName = lastName;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    @Schema(example = "John Doe")
+    public String getFullName() {
+        return firstName + ' ' + lastName;
+    }
+
+    @JsonIgnore
+    public String getFirstName() {
+        return firstName;
+    }
+
+    @JsonIgnore
+    public String getLastName() {
+        return lastName;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ContactSuggestion that = (ContactSuggestion) o;
+        return id.equals(that.id) && firstName.equals(that.firstName) && lastName.equals(that.lastName);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, firstName, lastName);
+    }
+
+    @Override
+    public String toString() {
+        return "ContactSuggestion{" +
+                "id=" + id +
+                ", firstName='" + firstName + '\'' +
+                ", lastName='" + lastName + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,45 @@
+package hu.futureofmedia.task.contactsapi.dto;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+public class ContactVersion {
+
+    private final Long version;
+
+    private final LocalDateTime lastModifiedDate;
+
+    public ContactVersion(Long version, LocalDateTime lastModifiedDate) {
+        this.version = version;
+        this.lastModifiedDate = lastModifiedDate;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public LocalDateTime getLastModifiedDate() {
+        return lastModifiedDate;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ContactVersion that = (ContactVersion) o;
+        return version.equals(that.version) && lastModifiedDate.equals(that.lastModifiedDate);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(version, lastModifiedDate);
+    }
+
+    @Override
+    public String toString() {
+        return "ContactVersion{" +
+                "version=" + version +
+                ", lastModifiedDate=" + lastModifiedDate +
+                '}';
+    }
+}
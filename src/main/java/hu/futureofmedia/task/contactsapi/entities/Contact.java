@@ -1,5 +1,7 @@
 package hu.futureofmedia.task.contactsapi.entities;
 
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.ResultCheckStyle;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
 import org.springframework.data.annotation.CreatedDate;
@@ -12,19 +14,21 @@ import java.util.Objects;
 
 @Entity
 @EntityListeners(AuditingEntityListener.class)
-@SQLDelete(sql = "UPDATE contact SET status = 'DELETED' WHERE id=?")
+@DynamicUpdate
+@SQLDelete(sql = "UPDATE contact SET status = 'DELETED', last_modified_date = LOCALTIMESTAMP, version = version + 1 WHERE id=? AND version=?", check = ResultCheckStyle.COUNT)
 @Where(clause = "status = 'ACTIVE'")
 public class Contact {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "contact_seq")
+    @SequenceGenerator(name = "contact_seq", sequenceName = "contact_seq", allocationSize = 50)
     private Long id;
     private String firstName;
     private String lastName;
     private String email;
     private String phoneNumber;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private Company company;
 
     private String comment;
@@ -38,6 +42,9 @@ public class Contact {
     @LastModifiedDate
     private LocalDateTime lastModifiedDate;
 
+    @Version
+    private Long version;
+
     public Contact() {
     }
 
@@ -104,6 +111,10 @@ public class Contact {
         return lastModifiedDate;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     public Contact setFirstName(String firstName) {
         this.firstName = firstName;
         return this;
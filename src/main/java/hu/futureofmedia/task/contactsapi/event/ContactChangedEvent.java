@@ -0,0 +1,64 @@
+package hu.futureofmedia.task.contactsapi.event;
+
+import java.util.Objects;
+
+public class ContactChangedEvent {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    private final Type type;
+
+    private final Long id;
+
+    private final String firstName;
+
+    private final String lastName;
+
+    public ContactChangedEvent(Type type, Long id, String firstName, String lastName) {
+        this.type = type;
+        this.id = id;
+        this.firstName = firstName;
+        this.lastName = lastName;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ContactChangedEvent that = (ContactChangedEvent) o;
+        return type == that.type && id.equals(that.id) && Objects.equals(firstName, that.firstName) && Objects.equals(lastName, that.lastName);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, id, firstName, lastName);
+    }
+
+    @Override
+    public String toString() {
+        return "ContactChangedEvent{" +
+                "type=" + type +
+                ", id=" + id +
+                ", firstName='" + firstName + '\'' +
+                ", lastName='" + lastName + '\'' +
+                '}';
+    }
+}
@@ -1,13 +1,16 @@
 package hu.futureofmedia.task.contactsapi.exception;
 
 import io.swagger.v3.oas.annotations.Hidden;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
+import javax.validation.ConstraintViolationException;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -25,6 +28,15 @@ public class GlobalExceptionHandler {
                 .collect(Collectors.toList());
     }
 
+    @ExceptionHandler(ConstraintViolationException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public List<ErrorMessage> handleConstraintViolationException(
+            ConstraintViolationException e) {
+        return e.getConstraintViolations().stream()
+                .map(violation -> new ErrorMessage(violation.getPropertyPath().toString(), violation.getMessage()))
+                .collect(Collectors.toList());
+    }
+
     @ExceptionHandler(MethodArgumentTypeMismatchException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public List<ErrorMessage> handle(
@@ -41,6 +53,29 @@ public class GlobalExceptionHandler {
         return List.of(message);
     }
 
+    @ExceptionHandler(VersionMismatchException.class)
+    @ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+    public List<ErrorMessage> handleVersionMismatchException(
+            VersionMismatchException e) {
+        ErrorMessage message = new ErrorMessage(null, String.format("class %s entity with id %d has version %d",
+                e.getClassType().getSimpleName(), e.getId(), e.getCurrentVersion()));
+        return List.of(message);
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    @ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+    public List<ErrorMessage> handleOptimisticLockingFailureException(
+            OptimisticLockingFailureException e) {
+        if (e instanceof ObjectOptimisticLockingFailureException
+                && ((ObjectOptimisticLockingFailureException) e).getPersistentClassName() != null) {
+            ObjectOptimisticLockingFailureException objectFailure = (ObjectOptimisticLockingFailureException) e;
+            String className = objectFailure.getPersistentClassName();
+            return List.of(new ErrorMessage(null, String.format("class %s entity with id %s was modified concurrently",
+                    className.substring(className.lastIndexOf('.') + 1), objectFailure.getIdentifier())));
+        }
+        return List.of(new ErrorMessage(null, "entity was modified concurrently"));
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public List<ErrorMessage> handleIllegalArgumentException(
@@ -0,0 +1,26 @@
+package hu.futureofmedia.task.contactsapi.exception;
+
+public class VersionMismatchException extends RuntimeException {
+
+    private final Long id;
+    private final Class<?> classType;
+    private final Long currentVersion;
+
+    public VersionMismatchException(Long id, Class<?> classType, Long currentVersion) {
+        this.id = id;
+        this.classType = classType;
+        this.currentVersion = currentVersion;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Class<?> getClassType() {
+        return classType;
+    }
+
+    public Long getCurrentVersion() {
+        return currentVersion;
+    }
+}
@@ -2,6 +2,7 @@ package hu.futureofmedia.task.contactsapi.property;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
 import org.springframework.validation.annotation.Validated;
 
 import javax.validation.constraints.Min;
@@ -14,12 +15,40 @@ public class ContactProperties {
     @Min(1)
     private final int pageSize;
 
-    public ContactProperties(int pageSize) {
+    @Min(1)
+    private final int batchSize;
+
+    @Min(1)
+    private final int batchMaxSize;
+
+    @Min(1)
+    private final int importChunkSize;
+
+    public ContactProperties(
+            int pageSize,
+            @DefaultValue("50") int batchSize,
+            @DefaultValue("10000") int batchMaxSize,
+            @DefaultValue("500") int importChunkSize) {
         this.pageSize = pageSize;
+        this.batchSize = batchSize;
+        this.batchMaxSize = batchMaxSize;
+        this.importChunkSize = importChunkSize;
     }
 
     public int getPageSize() {
         return pageSize;
     }
 
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public int getBatchMaxSize() {
+        return batchMaxSize;
+    }
+
+    public int getImportChunkSize() {
+        return importChunkSize;
+    }
+
 }
@@ -0,0 +1,62 @@
+package hu.futureofmedia.task.contactsapi.property;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotBlank;
+import java.time.Duration;
+
+@Validated
+@ConstructorBinding
+@ConfigurationProperties(prefix = "contact.replica")
+public class ReplicaProperties {
+
+    @NotBlank
+    private final String url;
+
+    private final String username;
+
+    private final String password;
+
+    @Min(1)
+    private final int maximumPoolSize;
+
+    private final Duration readYourWritesWindow;
+
+    public ReplicaProperties(
+            String url,
+            String username,
+            String password,
+            @DefaultValue("10") int maximumPoolSize,
+            @DefaultValue("PT5S") Duration readYourWritesWindow) {
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.maximumPoolSize = maximumPoolSize;
+        this.readYourWritesWindow = readYourWritesWindow;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public int getMaximumPoolSize() {
+        return maximumPoolSize;
+    }
+
+    public Duration getReadYourWritesWindow() {
+        return readYourWritesWindow;
+    }
+
+}
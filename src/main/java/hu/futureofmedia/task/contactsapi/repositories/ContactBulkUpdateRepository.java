@@ -0,0 +1,16 @@
+package hu.futureofmedia.task.contactsapi.repositories;
+
+import hu.futureofmedia.task.contactsapi.dto.ContactSuggestion;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ContactBulkUpdateRepository {
+
+    List<ContactSuggestion> softDeleteByIdIn(Collection<Long> ids, LocalDateTime lastModifiedDate);
+
+    List<ContactSuggestion> softDeleteByCompanyId(Long companyId, LocalDateTime lastModifiedDate);
+
+    List<ContactSuggestion> reassignCompany(Long fromCompanyId, Long toCompanyId, LocalDateTime lastModifiedDate);
+}
@@ -0,0 +1,73 @@
+package hu.futureofmedia.task.contactsapi.repositories;
+
+import hu.futureofmedia.task.contactsapi.dto.ContactSuggestion;
+import hu.futureofmedia.task.contactsapi.utility.DatabaseVendor;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Query;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Every bulk change is a single update statement returning the changed contacts, so the change events are published
+ * for exactly the updated rows without loading the contacts first. PostgreSQL returns them with {@code returning}, H2
+ * by selecting from the {@code final table} of the update.
+ */
+public class ContactBulkUpdateRepositoryImpl implements ContactBulkUpdateRepository {
+
+    private static final String SOFT_DELETE =
+            "update contact set status = 'DELETED', last_modified_date = :lastModifiedDate, version = version + 1 " +
+            "where status = 'ACTIVE' and ";
+
+    static final String SOFT_DELETE_BY_IDS = SOFT_DELETE + "id in (:ids)";
+
+    static final String SOFT_DELETE_BY_COMPANY = SOFT_DELETE + "company_id = :companyId";
+
+    static final String REASSIGN_COMPANY =
+            "update contact set company_id = :toCompanyId, last_modified_date = :lastModifiedDate, version = version + 1 " +
+            "where status = 'ACTIVE' and company_id = :fromCompanyId";
+
+    private final EntityManager entityManager;
+
+    private final DatabaseVendor databaseVendor;
+
+    public ContactBulkUpdateRepositoryImpl(EntityManager entityManager, DatabaseVendor databaseVendor) {
+        this.entityManager = entityManager;
+        this.databaseVendor = databaseVendor;
+    }
+
+    @Override
+    public List<ContactSuggestion> softDeleteByIdIn(Collection<Long> ids, LocalDateTime lastModifiedDate) {
+        return update(SOFT_DELETE_BY_IDS, Map.of("ids", ids, "lastModifiedDate", lastModifiedDate));
+    }
+
+    @Override
+    public List<ContactSuggestion> softDeleteByCompanyId(Long companyId, LocalDateTime lastModifiedDate) {
+        return update(SOFT_DELETE_BY_COMPANY, Map.of("companyId", companyId, "lastModifiedDate", lastModifiedDate));
+    }
+
+    @Override
+    public List<ContactSuggestion> reassignCompany(Long fromCompanyId, Long toCompanyId, LocalDateTime lastModifiedDate) {
+        return update(REASSIGN_COMPANY, Map.of(
+                "fromCompanyId", fromCompanyId,
+                "toCompanyId", toCompanyId,
+                "lastModifiedDate", lastModifiedDate));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ContactSuggestion> update(String update, Map<String, Object> parameters) {
+        String sql = databaseVendor.isPostgres()
+                ? update + " returning id, first_name, last_name"
+                : "select id, first_name, last_name from final table (" + update + ")";
+        Query query = entityManager.createNativeQuery(sql);
+        parameters.forEach(query::setParameter);
+        List<Object[]> rows = query.getResultList();
+        entityManager.clear();
+        return rows.stream()
+                .map(row -> new ContactSuggestion(((Number) row[0]).longValue(), (String) row[1], (String) row[2]))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,13 @@
+package hu.futureofmedia.task.contactsapi.repositories;
+
+import hu.futureofmedia.task.contactsapi.dto.ContactChange;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ContactChangeRepository {
+
+    List<ContactChange> findChangesAfter(Long changeSeq, Long id, LocalDateTime until, int limit);
+
+    String findListVersion();
+}
@@ -0,0 +1,104 @@
+package hu.futureofmedia.task.contactsapi.repositories;
+
+import hu.futureofmedia.task.contactsapi.dto.ContactChange;
+import hu.futureofmedia.task.contactsapi.dto.ContactInfo;
+import hu.futureofmedia.task.contactsapi.utility.DatabaseVendor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Changes are ordered by {@code change_seq}, which is assigned when a row is written. On PostgreSQL it is the ID of the
+ * writing transaction, and only rows of transactions older than every running one are returned, so a transaction
+ * committing late cannot end up behind a cursor that was already handed out. H2 takes it from a sequence and has no
+ * such gate, there the changes of the last {@code until} period are held back instead.
+ * <p>
+ * The list version changes whenever the contacts visible to the reading connection change, so it can be used as the
+ * list ETag even when the list is read from a lagging replica. On PostgreSQL a transaction can commit after a younger
+ * one, so {@code max(change_seq)} would not move; the version is the hash of the current transaction snapshot instead,
+ * which changes with every commit. On H2 it is {@code max(change_seq)}.
+ */
+public class ContactChangeRepositoryImpl implements ContactChangeRepository {
+
+    private static final String SELECT_CHANGES =
+            "select c.id, c.first_name, c.last_name, c.email, c.phone_number, co.name as company_name, " +
+            "c.comment, c.created_date, c.last_modified_date, c.version, c.status, c.change_seq, c.created_seq " +
+            "from contact c join company co on co.id = c.company_id ";
+
+    private static final String POSTGRES_SETTLED = "where c.change_seq < txid_snapshot_xmin(txid_current_snapshot()) ";
+
+    private static final String H2_SETTLED = "where c.last_modified_date <= :until ";
+
+    private static final String AFTER_CURSOR =
+            "and c.change_seq >= :changeSeq and (c.change_seq > :changeSeq or c.id > :id) ";
+
+    private static final String ORDER_BY_CHANGE =
+            "order by c.change_seq, c.id limit :limit";
+
+    static final String POSTGRES_FIRST_CHANGES = SELECT_CHANGES + POSTGRES_SETTLED + ORDER_BY_CHANGE;
+
+    static final String POSTGRES_CHANGES_AFTER_CURSOR = SELECT_CHANGES + POSTGRES_SETTLED + AFTER_CURSOR + ORDER_BY_CHANGE;
+
+    static final String H2_FIRST_CHANGES = SELECT_CHANGES + H2_SETTLED + ORDER_BY_CHANGE;
+
+    static final String H2_CHANGES_AFTER_CURSOR = SELECT_CHANGES + H2_SETTLED + AFTER_CURSOR + ORDER_BY_CHANGE;
+
+    static final String POSTGRES_LIST_VERSION = "select md5(txid_current_snapshot()::text)";
+
+    static final String H2_LIST_VERSION = "select cast(coalesce(max(change_seq), 0) as varchar) from contact";
+
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    private final DatabaseVendor databaseVendor;
+
+    public ContactChangeRepositoryImpl(JdbcTemplate jdbcTemplate, DatabaseVendor databaseVendor) {
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.databaseVendor = databaseVendor;
+    }
+
+    @Override
+    public List<ContactChange> findChangesAfter(Long changeSeq, Long id, LocalDateTime until, int limit) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("until", until)
+                .addValue("limit", limit);
+        boolean afterCursor = changeSeq != null;
+        if (afterCursor) {
+            parameters.addValue("changeSeq", changeSeq).addValue("id", id);
+        }
+        String sql = databaseVendor.isPostgres()
+                ? afterCursor ? POSTGRES_CHANGES_AFTER_CURSOR : POSTGRES_FIRST_CHANGES
+                : afterCursor ? H2_CHANGES_AFTER_CURSOR : H2_FIRST_CHANGES;
+        return namedJdbcTemplate.query(sql, parameters, (rs, rowNum) -> {
+            long contactId = rs.getLong("id");
+            long rowChangeSeq = rs.getLong("change_seq");
+            LocalDateTime changedDate = rs.getObject("last_modified_date", LocalDateTime.class);
+            if ("DELETED".equals(rs.getString("status"))) {
+                return ContactChange.deleted(contactId, changedDate, rowChangeSeq);
+            }
+            long createdSeq = rs.getLong("created_seq");
+            ContactChange.Type type = !afterCursor || createdSeq > changeSeq || (createdSeq == changeSeq && contactId > id)
+                    ? ContactChange.Type.CREATED
+                    : ContactChange.Type.UPDATED;
+            return new ContactChange(type, contactId, changedDate, rowChangeSeq, new ContactInfo(
+                    contactId,
+                    rs.getString("first_name"),
+                    rs.getString("last_name"),
+                    rs.getString("email"),
+                    rs.getString("phone_number"),
+                    rs.getString("company_name"),
+                    rs.getString("comment"),
+                    rs.getObject("created_date", LocalDateTime.class),
+                    changedDate,
+                    rs.getLong("version")));
+        });
+    }
+
+    @Override
+    public String findListVersion() {
+        String sql = databaseVendor.isPostgres() ? POSTGRES_LIST_VERSION : H2_LIST_VERSION;
+        return namedJdbcTemplate.getJdbcOperations().queryForObject(sql, String.class);
+    }
+}
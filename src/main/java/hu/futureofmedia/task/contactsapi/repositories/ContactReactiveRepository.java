@@ -0,0 +1,83 @@
+package hu.futureofmedia.task.contactsapi.repositories;
+
+import hu.futureofmedia.task.contactsapi.dto.ContactInfo;
+import hu.futureofmedia.task.contactsapi.dto.ContactMinInfo;
+import io.r2dbc.spi.Row;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+@Repository
+public class ContactReactiveRepository {
+
+    private static final String SELECT_CONTACT_MIN_INFO =
+            "select c.id, c.first_name, c.last_name, c.email, c.phone_number, co.name as company_name " +
+            "from contact c join company co on co.id = c.company_id " +
+            "where c.status = 'ACTIVE' " +
+            "order by c.first_name, c.last_name, c.id";
+
+    private static final String SELECT_CONTACT_INFO_BY_ID =
+            "select c.id, c.first_name, c.last_name, c.email, c.phone_number, co.name as company_name, " +
+            "c.comment, c.created_date, c.last_modified_date, c.version " +
+            "from contact c join company co on co.id = c.company_id " +
+            "where c.status = 'ACTIVE' and c.id = :id";
+
+    private static final String COUNT_ACTIVE_CONTACTS =
+            "select count(*) from contact where status = 'ACTIVE'";
+
+    private final DatabaseClient databaseClient;
+
+    public ContactReactiveRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    public Mono<ContactInfo> findContactInfoById(Long id) {
+        return databaseClient.sql(SELECT_CONTACT_INFO_BY_ID)
+                .bind("id", id)
+                .map(row -> new ContactInfo(
+                        row.get("id", Long.class),
+                        row.get("first_name", String.class),
+                        row.get("last_name", String.class),
+                        row.get("email", String.class),
+                        row.get("phone_number", String.class),
+                        row.get("company_name", String.class),
+                        row.get("comment", String.class),
+                        row.get("created_date", LocalDateTime.class),
+                        row.get("last_modified_date", LocalDateTime.class),
+                        row.get("version", Long.class)))
+                .one();
+    }
+
+    public Flux<ContactMinInfo> findAllOrderByFullName(long offset, int limit) {
+        return databaseClient.sql(SELECT_CONTACT_MIN_INFO + " limit :limit offset :offset")
+                .bind("limit", limit)
+                .bind("offset", offset)
+                .map(this::mapToMinInfo)
+                .all();
+    }
+
+    public Flux<ContactMinInfo> streamAllOrderByFullName() {
+        return databaseClient.sql(SELECT_CONTACT_MIN_INFO)
+                .map(this::mapToMinInfo)
+                .all();
+    }
+
+    public Mono<Long> countAll() {
+        return databaseClient.sql(COUNT_ACTIVE_CONTACTS)
+                .map(row -> row.get(0, Long.class))
+                .one();
+    }
+
+    private ContactMinInfo mapToMinInfo(Row row) {
+        return new ContactMinInfo(
+                row.get("id", Long.class),
+                row.get("first_name", String.class),
+                row.get("last_name", String.class),
+                row.get("email", String.class),
+                row.get("phone_number", String.class),
+                row.get("company_name", String.class));
+    }
+}
@@ -1,15 +1,85 @@
 package hu.futureofmedia.task.contactsapi.repositories;
 
+import hu.futureofmedia.task.contactsapi.dto.ContactInfo;
 import hu.futureofmedia.task.contactsapi.dto.ContactMinInfo;
+import hu.futureofmedia.task.contactsapi.dto.ContactSuggestion;
+import hu.futureofmedia.task.contactsapi.dto.ContactVersion;
 import hu.futureofmedia.task.contactsapi.entities.Contact;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
-public interface ContactRepository extends JpaRepository<Contact, Long> {
+import javax.persistence.QueryHint;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+public interface ContactRepository extends JpaRepository<Contact, Long>, ContactSearchRepository, ContactChangeRepository,
+        ContactBulkUpdateRepository {
 
     @Query("select new hu.futureofmedia.task.contactsapi.dto.ContactMinInfo(" +
             "c.id, concat(c.firstName, ' ', c.lastName), c.email, c.phoneNumber, c.company.name) from Contact c")
     Page<ContactMinInfo> getAllContactOrderByFullNameWithPagination(Pageable pageable);
+
+    @Query("select new hu.futureofmedia.task.contactsapi.dto.ContactMinInfo(" +
+            "c.id, concat(c.firstName, ' ', c.lastName), c.email, c.phoneNumber, c.company.name) from Contact c")
+    Slice<ContactMinInfo> getAllContactOrderByFullNameAsSlice(Pageable pageable);
+
+    @Query("select new hu.futureofmedia.task.contactsapi.dto.ContactMinInfo(" +
+            "c.id, c.firstName, c.lastName, c.email, c.phoneNumber, c.company.name) from Contact c " +
+            "order by c.firstName, c.lastName, c.id")
+    List<ContactMinInfo> getFirstContactsOrderByFullName(Pageable pageable);
+
+    @Query("select new hu.futureofmedia.task.contactsapi.dto.ContactMinInfo(" +
+            "c.id, c.firstName, c.lastName, c.email, c.phoneNumber, c.company.name) from Contact c " +
+            "where c.firstName >= :firstName and (c.firstName > :firstName or c.lastName > :lastName " +
+            "or (c.lastName = :lastName and c.id > :id)) " +
+            "order by c.firstName, c.lastName, c.id")
+    List<ContactMinInfo> getContactsAfterOrderByFullName(
+            @Param("firstName") String firstName,
+            @Param("lastName") String lastName,
+            @Param("id") Long id,
+            Pageable pageable);
+
+    @Query("select new hu.futureofmedia.task.contactsapi.dto.ContactMinInfo(" +
+            "c.id, c.firstName, c.lastName, c.email, c.phoneNumber, c.company.name) from Contact c " +
+            "where c.firstName <= :firstName and (c.firstName < :firstName or c.lastName < :lastName " +
+            "or (c.lastName = :lastName and c.id < :id)) " +
+            "order by c.firstName desc, c.lastName desc, c.id desc")
+    List<ContactMinInfo> getContactsBeforeOrderByFullNameDesc(
+            @Param("firstName") String firstName,
+            @Param("lastName") String lastName,
+            @Param("id") Long id,
+            Pageable pageable);
+
+    @Query("select c from Contact c join fetch c.company where c.id = :id")
+    Optional<Contact> findWithCompanyById(@Param("id") Long id);
+
+    @Query("select new hu.futureofmedia.task.contactsapi.dto.ContactVersion(c.version, c.lastModifiedDate) " +
+            "from Contact c where c.id = :id")
+    Optional<ContactVersion> findVersionById(@Param("id") Long id);
+
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HINT_READONLY, value = "true"),
+            @QueryHint(name = HINT_CACHEABLE, value = "false")})
+    @Query("select new hu.futureofmedia.task.contactsapi.dto.ContactInfo(" +
+            "c.id, c.firstName, c.lastName, c.email, c.phoneNumber, c.company.name, c.comment, c.createdDate, c.lastModifiedDate) " +
+            "from Contact c order by c.id")
+    Stream<ContactInfo> streamAllOrderById();
+
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HINT_READONLY, value = "true"),
+            @QueryHint(name = HINT_CACHEABLE, value = "false")})
+    @Query("select new hu.futureofmedia.task.contactsapi.dto.ContactSuggestion(c.id, c.firstName, c.lastName) from Contact c")
+    Stream<ContactSuggestion> streamAllSuggestions();
 }
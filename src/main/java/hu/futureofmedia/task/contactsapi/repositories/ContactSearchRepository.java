@@ -0,0 +1,12 @@
+package hu.futureofmedia.task.contactsapi.repositories;
+
+import hu.futureofmedia.task.contactsapi.dto.ContactMinInfo;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+public interface ContactSearchRepository {
+
+    Slice<ContactMinInfo> searchContacts(List<String> terms, Pageable pageable);
+}
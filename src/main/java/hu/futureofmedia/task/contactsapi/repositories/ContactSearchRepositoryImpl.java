@@ -0,0 +1,113 @@
+package hu.futureofmedia.task.contactsapi.repositories;
+
+import hu.futureofmedia.task.contactsapi.dto.ContactMinInfo;
+import hu.futureofmedia.task.contactsapi.utility.DatabaseVendor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class ContactSearchRepositoryImpl implements ContactSearchRepository {
+
+    private static final String SELECT_CONTACT_MIN_INFO =
+            "select c.id, c.first_name, c.last_name, c.email, c.phone_number, co.name as company_name " +
+            "from contact c join company co on co.id = c.company_id ";
+
+    /**
+     * Short prefixes match a large part of the contacts, so only the first {@code :candidates} matches are ranked,
+     * otherwise every match would be scored before the limit applies.
+     */
+    static final String POSTGRES_SEARCH =
+            "select c.id, c.first_name, c.last_name, c.email, c.phone_number, co.name as company_name " +
+            "from (select m.id, ts_rank_cd(m.search_vector, q) as rank " +
+            "from contact m cross join to_tsquery('simple', :query) q " +
+            "where m.status = 'ACTIVE' and m.search_vector @@ q limit :candidates) r " +
+            "join contact c on c.id = r.id join company co on co.id = c.company_id " +
+            "order by r.rank desc, c.id " +
+            "limit :limit offset :offset";
+
+    /**
+     * H2 has no full-text index, so every term has to be a prefix of the first name, the last name or the email. The
+     * longest term selects the candidates through the prefix indexes, the others only filter them.
+     */
+    private static final String H2_CANDIDATES =
+            "select id from contact where search_first_name like :term0 escape '\\' " +
+            "union select id from contact where search_last_name like :term0 escape '\\' " +
+            "union select id from contact where search_email like :term0 escape '\\'";
+
+    private static final RowMapper<ContactMinInfo> CONTACT_MIN_INFO_MAPPER = (rs, rowNum) -> new ContactMinInfo(
+            rs.getLong("id"),
+            rs.getString("first_name"),
+            rs.getString("last_name"),
+            rs.getString("email"),
+            rs.getString("phone_number"),
+            rs.getString("company_name"));
+
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    private final DatabaseVendor databaseVendor;
+
+    private final int maxCandidates;
+
+    public ContactSearchRepositoryImpl(
+            JdbcTemplate jdbcTemplate,
+            DatabaseVendor databaseVendor,
+            @Value("${contact.search.max-candidates:1000}") int maxCandidates) {
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.databaseVendor = databaseVendor;
+        this.maxCandidates = maxCandidates;
+    }
+
+    @Override
+    public Slice<ContactMinInfo> searchContacts(List<String> terms, Pageable pageable) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("limit", pageable.getPageSize() + 1)
+                .addValue("offset", pageable.getOffset());
+        String sql;
+        if (databaseVendor.isPostgres()) {
+            sql = POSTGRES_SEARCH;
+            parameters.addValue("candidates", maxCandidates);
+            parameters.addValue("query", terms.stream()
+                    .map(term -> "'" + term + "':*")
+                    .collect(Collectors.joining(" & ")));
+        } else {
+            sql = h2Search(terms.size());
+            List<String> byLength = terms.stream()
+                    .sorted(Comparator.comparingInt(String::length).reversed())
+                    .collect(Collectors.toList());
+            for (int i = 0; i < byLength.size(); i++) {
+                parameters.addValue("term" + i, escapeLike(byLength.get(i)) + "%");
+            }
+        }
+        List<ContactMinInfo> rows = namedJdbcTemplate.query(sql, parameters, CONTACT_MIN_INFO_MAPPER);
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        if (hasNext) {
+            rows = rows.subList(0, pageable.getPageSize());
+        }
+        return new SliceImpl<>(rows, pageable, hasNext);
+    }
+
+    static String h2Search(int termCount) {
+        StringBuilder where = new StringBuilder("where c.status = 'ACTIVE' and c.id in (").append(H2_CANDIDATES).append(')');
+        for (int i = 1; i < termCount; i++) {
+            String term = ":term" + i;
+            where.append(" and (c.search_first_name like ").append(term).append(" escape '\\'")
+                    .append(" or c.search_last_name like ").append(term).append(" escape '\\'")
+                    .append(" or c.search_email like ").append(term).append(" escape '\\')");
+        }
+        return SELECT_CONTACT_MIN_INFO + where +
+                " order by c.first_name, c.last_name, c.id limit :limit offset :offset";
+    }
+
+    private String escapeLike(String term) {
+        return term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -1,23 +1,157 @@
 package hu.futureofmedia.task.contactsapi.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import hu.futureofmedia.task.contactsapi.entities.Company;
 import hu.futureofmedia.task.contactsapi.exception.IdNotFoundException;
 import hu.futureofmedia.task.contactsapi.repositories.CompanyRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Service
-@Transactional
+@Transactional(readOnly = true)
 public class CompanyService {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(CompanyService.class);
+
+    private static final int MAX_UNKNOWN_IDS = 10_000;
+
     private final CompanyRepository companyRepository;
 
-    public CompanyService(CompanyRepository companyRepository) {
+    private final Executor refreshExecutor;
+
+    private final Cache<Long, Boolean> unknownIds;
+
+    private final AtomicReference<Map<Long, Company>> companies = new AtomicReference<>(Map.of());
+
+    private final AtomicBoolean refreshRequested = new AtomicBoolean();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder refreshes = new LongAdder();
+
+    @Autowired
+    public CompanyService(
+            CompanyRepository companyRepository,
+            @Value("${contact.company-unknown-id-ttl:PT10S}") Duration unknownIdTtl) {
+        this(companyRepository, unknownIdTtl, Executors.newSingleThreadExecutor(refreshThreadFactory()));
+    }
+
+    CompanyService(CompanyRepository companyRepository, Duration unknownIdTtl, Executor refreshExecutor) {
         this.companyRepository = companyRepository;
+        this.refreshExecutor = refreshExecutor;
+        this.unknownIds = Caffeine.newBuilder()
+                .maximumSize(MAX_UNKNOWN_IDS)
+                .expireAfterWrite(unknownIdTtl)
+                .build();
+    }
+
+    @PostConstruct
+    public void loadCompanies() {
+        refreshCompanies();
     }
 
+    @Scheduled(
+            initialDelayString = "${contact.company-refresh-interval:PT5M}",
+            fixedDelayString = "${contact.company-refresh-interval:PT5M}")
+    public void refreshCompanies() {
+        Map<Long, Company> snapshot = companyRepository.findAll().stream()
+                .collect(Collectors.toUnmodifiableMap(Company::getId, Function.identity()));
+        companies.set(snapshot);
+        refreshes.increment();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (refreshExecutor instanceof ExecutorService) {
+            ((ExecutorService) refreshExecutor).shutdownNow();
+        }
+    }
+
+    /**
+     * Unknown IDs are remembered for a short time, so repeated invalid IDs do not reach the database. A company
+     * created since the last snapshot is added to it right away and a full reload is started in the background.
+     */
     public Company findCompanyById(Long id) {
-        return companyRepository.findById(id)
-                .orElseThrow(() -> new IdNotFoundException(id, Company.class));
+        Company company = companies.get().get(id);
+        if (company != null) {
+            hits.increment();
+            return company;
+        }
+        misses.increment();
+        if (unknownIds.getIfPresent(id) != null) {
+            throw new IdNotFoundException(id, Company.class);
+        }
+        Company stored = companyRepository.findById(id).orElse(null);
+        if (stored == null) {
+            unknownIds.put(id, Boolean.TRUE);
+            throw new IdNotFoundException(id, Company.class);
+        }
+        companies.updateAndGet(snapshot -> {
+            Map<Long, Company> updated = new HashMap<>(snapshot);
+            updated.put(stored.getId(), stored);
+            return Map.copyOf(updated);
+        });
+        requestRefresh();
+        return stored;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getRefreshCount() {
+        return refreshes.sum();
+    }
+
+    private void requestRefresh() {
+        if (!refreshRequested.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                refreshRequested.set(false);
+                try {
+                    refreshCompanies();
+                } catch (RuntimeException e) {
+                    LOGGER.warn("Company snapshot refresh failed", e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshRequested.set(false);
+        }
+    }
+
+    private static CustomizableThreadFactory refreshThreadFactory() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("company-refresh-");
+        threadFactory.setDaemon(true);
+        return threadFactory;
     }
 }
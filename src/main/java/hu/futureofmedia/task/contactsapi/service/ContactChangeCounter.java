@@ -0,0 +1,23 @@
+package hu.futureofmedia.task.contactsapi.service;
+
+import hu.futureofmedia.task.contactsapi.event.ContactChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class ContactChangeCounter {
+
+    private final AtomicLong changes = new AtomicLong();
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onContactChanged(ContactChangedEvent event) {
+        changes.incrementAndGet();
+    }
+
+    public long getChangeCount() {
+        return changes.get();
+    }
+}
@@ -0,0 +1,72 @@
+package hu.futureofmedia.task.contactsapi.service;
+
+import hu.futureofmedia.task.contactsapi.dto.ContactChange;
+
+import java.io.*;
+import java.util.Base64;
+import java.util.Objects;
+
+final class ContactChangeCursor {
+
+    private static final byte CHANGES = 's';
+
+    private final long changeSeq;
+    private final Long id;
+
+    private ContactChangeCursor(long changeSeq, Long id) {
+        this.changeSeq = changeSeq;
+        this.id = id;
+    }
+
+    static ContactChangeCursor after(ContactChange change) {
+        return new ContactChangeCursor(change.getChangeSeq(), change.getId());
+    }
+
+    static ContactChangeCursor decode(String token) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(Base64.getUrlDecoder().decode(token)))) {
+            if (in.readByte() != CHANGES) {
+                throw new IllegalArgumentException("Invalid cursor!");
+            }
+            ContactChangeCursor cursor = new ContactChangeCursor(in.readLong(), in.readLong());
+            if (in.read() != -1) {
+                throw new IllegalArgumentException("Invalid cursor!");
+            }
+            return cursor;
+        } catch (IOException | RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor!", e);
+        }
+    }
+
+    String encode() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(CHANGES);
+            out.writeLong(changeSeq);
+            out.writeLong(id);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+    }
+
+    long getChangeSeq() {
+        return changeSeq;
+    }
+
+    Long getId() {
+        return id;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ContactChangeCursor that = (ContactChangeCursor) o;
+        return changeSeq == that.changeSeq && id.equals(that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(changeSeq, id);
+    }
+}
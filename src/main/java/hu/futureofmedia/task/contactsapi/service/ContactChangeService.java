@@ -0,0 +1,54 @@
+package hu.futureofmedia.task.contactsapi.service;
+
+import hu.futureofmedia.task.contactsapi.dto.ContactChange;
+import hu.futureofmedia.task.contactsapi.dto.ContactChangePage;
+import hu.futureofmedia.task.contactsapi.repositories.ContactRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@Transactional(readOnly = true)
+public class ContactChangeService {
+
+    private final ContactRepository contactRepository;
+
+    private final int pageSize;
+
+    private final Duration settleTime;
+
+    public ContactChangeService(
+            ContactRepository contactRepository,
+            @Value("${contact.changes.page-size:500}") int pageSize,
+            @Value("${contact.changes.settle-time:PT1S}") Duration settleTime) {
+        this.contactRepository = contactRepository;
+        this.pageSize = pageSize;
+        this.settleTime = settleTime;
+    }
+
+    public ContactChangePage getChanges(String cursor) {
+        LocalDateTime until = LocalDateTime.now().minus(settleTime);
+        List<ContactChange> rows;
+        if (cursor == null || cursor.isEmpty()) {
+            rows = contactRepository.findChangesAfter(null, null, until, pageSize + 1);
+        } else {
+            ContactChangeCursor from = ContactChangeCursor.decode(cursor);
+            rows = contactRepository.findChangesAfter(from.getChangeSeq(), from.getId(), until, pageSize + 1);
+        }
+        boolean hasMore = rows.size() > pageSize;
+        List<ContactChange> changes = new ArrayList<>(rows.subList(0, Math.min(rows.size(), pageSize)));
+        if (changes.isEmpty()) {
+            return new ContactChangePage(changes, cursor == null || cursor.isEmpty() ? null : cursor, false);
+        }
+        return new ContactChangePage(changes, ContactChangeCursor.after(changes.get(changes.size() - 1)).encode(), hasMore);
+    }
+
+    public String getListVersion() {
+        return contactRepository.findListVersion();
+    }
+}
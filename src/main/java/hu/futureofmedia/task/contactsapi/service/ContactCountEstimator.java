@@ -0,0 +1,79 @@
+package hu.futureofmedia.task.contactsapi.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hu.futureofmedia.task.contactsapi.repositories.ContactRepository;
+import hu.futureofmedia.task.contactsapi.utility.DatabaseVendor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class ContactCountEstimator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ContactCountEstimator.class);
+
+    private static final long UNKNOWN = -1;
+
+    private static final String ACTIVE_CONTACT_PLAN =
+            "EXPLAIN (FORMAT JSON) SELECT 1 FROM contact WHERE status = 'ACTIVE'";
+
+    private final ContactRepository contactRepository;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    private final DatabaseVendor databaseVendor;
+
+    private final AtomicLong cachedCount = new AtomicLong(UNKNOWN);
+
+    public ContactCountEstimator(
+            ContactRepository contactRepository,
+            JdbcTemplate jdbcTemplate,
+            ObjectMapper objectMapper,
+            DatabaseVendor databaseVendor) {
+        this.contactRepository = contactRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.databaseVendor = databaseVendor;
+    }
+
+    public long estimateActiveContacts() {
+        long cached = cachedCount.get();
+        if (cached != UNKNOWN) {
+            return cached;
+        }
+        return refresh();
+    }
+
+    /**
+     * On PostgreSQL the refresh uses the planner's estimate as well, an exact count would scan every active contact.
+     */
+    @Scheduled(
+            initialDelayString = "${contact.count-refresh-interval:PT1M}",
+            fixedDelayString = "${contact.count-refresh-interval:PT1M}")
+    public long refresh() {
+        long count = databaseVendor.isPostgres() ? plannerEstimate() : contactRepository.count();
+        cachedCount.set(count);
+        return count;
+    }
+
+    private long plannerEstimate() {
+        String plan = jdbcTemplate.queryForObject(ACTIVE_CONTACT_PLAN, String.class);
+        try {
+            JsonNode planRows = objectMapper.readTree(plan).path(0).path("Plan").path("Plan Rows");
+            if (planRows.isNumber()) {
+                return planRows.asLong();
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Could not parse query plan of active contacts", e);
+        }
+        return contactRepository.count();
+    }
+}
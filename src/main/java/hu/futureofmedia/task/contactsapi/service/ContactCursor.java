@@ -0,0 +1,95 @@
+package hu.futureofmedia.task.contactsapi.service;
+
+import hu.futureofmedia.task.contactsapi.dto.ContactMinInfo;
+
+import java.io.*;
+import java.util.Base64;
+import java.util.Objects;
+
+final class ContactCursor {
+
+    private static final byte FORWARD = 'n';
+    private static final byte BACKWARD = 'p';
+
+    private final boolean forward;
+    private final String firstName;
+    private final String lastName;
+    private final Long id;
+
+    private ContactCursor(boolean forward, String firstName, String lastName, Long id) {
+        this.forward = forward;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.id = id;
+    }
+
+    static ContactCursor after(ContactMinInfo contact) {
+        return new ContactCursor(true, contact.getFirstName(), contact.getLastName(), contact.getId());
+    }
+
+    static ContactCursor before(ContactMinInfo contact) {
+        return new ContactCursor(false, contact.getFirstName(), contact.getLastName(), contact.getId());
+    }
+
+    ContactCursor reverse() {
+        return new ContactCursor(!forward, firstName, lastName, id);
+    }
+
+    static ContactCursor decode(String token) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(Base64.getUrlDecoder().decode(token)))) {
+            byte direction = in.readByte();
+            if (direction != FORWARD && direction != BACKWARD) {
+                throw new IllegalArgumentException("Invalid cursor!");
+            }
+            ContactCursor cursor = new ContactCursor(direction == FORWARD, in.readUTF(), in.readUTF(), in.readLong());
+            if (in.read() != -1) {
+                throw new IllegalArgumentException("Invalid cursor!");
+            }
+            return cursor;
+        } catch (IOException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor!", e);
+        }
+    }
+
+    String encode() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(forward ? FORWARD : BACKWARD);
+            out.writeUTF(firstName);
+            out.writeUTF(lastName);
+            out.writeLong(id);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+    }
+
+    boolean isForward() {
+        return forward;
+    }
+
+    String getFirstName() {
+        return firstName;
+    }
+
+    String getLastName() {
+        return lastName;
+    }
+
+    Long getId() {
+        return id;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ContactCursor that = (ContactCursor) o;
+        return forward == that.forward && firstName.equals(that.firstName) && lastName.equals(that.lastName) && id.equals(that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(forward, firstName, lastName, id);
+    }
+}
@@ -0,0 +1,339 @@
+package hu.futureofmedia.task.contactsapi.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hu.futureofmedia.task.contactsapi.event.ContactChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+@Component
+public class ContactEventBroadcaster {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ContactEventBroadcaster.class);
+
+    public static final String CHANGE_EVENT = "contact";
+
+    public static final String RESYNC_EVENT = "resync";
+
+    private static final Notification RESYNC = new Notification(null, RESYNC_EVENT, "{}");
+
+    private static final Notification HEARTBEAT = new Notification(null, null, null);
+
+    private final ObjectMapper objectMapper;
+
+    private final String streamId = Long.toString(System.currentTimeMillis(), 36);
+
+    private final Notification[] replay;
+
+    private final int bufferSize;
+
+    private final long writeTimeoutNanos;
+
+    private final ExecutorService sender;
+
+    private final Supplier<SseEmitter> emitters;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    private final LongAdder resyncs = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    private long sequence;
+
+    @Autowired
+    public ContactEventBroadcaster(
+            ObjectMapper objectMapper,
+            @Value("${contact.events.replay-size:1024}") int replaySize,
+            @Value("${contact.events.subscriber-buffer-size:1024}") int bufferSize,
+            @Value("${contact.events.timeout:PT30M}") Duration timeout,
+            @Value("${contact.events.write-timeout:PT10S}") Duration writeTimeout,
+            @Value("${contact.events.sender-threads:2}") int senderThreads) {
+        this(objectMapper, replaySize, bufferSize, writeTimeout, senderPool(senderThreads), () -> new SseEmitter(timeout.toMillis()));
+    }
+
+    ContactEventBroadcaster(
+            ObjectMapper objectMapper,
+            int replaySize,
+            int bufferSize,
+            Duration writeTimeout,
+            ExecutorService sender,
+            Supplier<SseEmitter> emitters) {
+        this.objectMapper = objectMapper;
+        this.replay = new Notification[replaySize];
+        this.bufferSize = bufferSize;
+        this.writeTimeoutNanos = writeTimeout.toNanos();
+        this.sender = sender;
+        this.emitters = emitters;
+    }
+
+    private static ExecutorService senderPool(int senderThreads) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("contact-events-");
+        threadFactory.setDaemon(true);
+        return Executors.newFixedThreadPool(senderThreads, threadFactory);
+    }
+
+    public SseEmitter subscribe(String lastEventId) {
+        SseEmitter emitter = emitters.get();
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> subscriber.close());
+        synchronized (this) {
+            if (lastEventId != null && !lastEventId.isBlank()) {
+                replayTo(subscriber, lastEventId.trim());
+            }
+            subscribers.add(subscriber);
+        }
+        subscriber.schedule();
+        return emitter;
+    }
+
+    @TransactionalEventListener
+    public void onContactChanged(ContactChangedEvent event) {
+        String data = serialize(event);
+        synchronized (this) {
+            long next = ++sequence;
+            Notification notification = new Notification(streamId + '-' + next, CHANGE_EVENT, data);
+            replay[(int) (next % replay.length)] = notification;
+            for (Subscriber subscriber : subscribers) {
+                subscriber.offer(notification);
+                subscriber.schedule();
+            }
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${contact.events.heartbeat-interval:PT15S}",
+            fixedDelayString = "${contact.events.heartbeat-interval:PT15S}")
+    public void sendHeartbeats() {
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.isIdle()) {
+                subscriber.offer(HEARTBEAT);
+                subscriber.schedule();
+            }
+        }
+    }
+
+    /**
+     * A send blocks its sender thread until the client reads. The emitter holds its lock for the whole write, and the
+     * write ignores interrupts, so a stuck send can only be ended by the container's write timeout
+     * ({@code server.tomcat.connection-timeout}). Subscribers not reading within {@code contact.events.write-timeout}
+     * are only marked here, which never blocks the scheduler: they stop receiving events, and their sender thread
+     * completes the emitter once the write returns or fails.
+     */
+    @Scheduled(
+            initialDelayString = "${contact.events.write-timeout-check-interval:PT1S}",
+            fixedDelayString = "${contact.events.write-timeout-check-interval:PT1S}")
+    public void evictStuckSubscribers() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.evictIfStuck(now)) {
+                evictions.increment();
+                LOGGER.warn("Dropped an event subscriber not reading for more than {} ms", writeTimeoutNanos / 1_000_000);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        sender.shutdownNow();
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    public long getResyncCount() {
+        return resyncs.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    private void replayTo(Subscriber subscriber, String lastEventId) {
+        long last = -1;
+        if (lastEventId.startsWith(streamId + '-')) {
+            try {
+                last = Long.parseLong(lastEventId.substring(streamId.length() + 1));
+            } catch (NumberFormatException e) {
+                last = -1;
+            }
+        }
+        long oldest = Math.max(1, sequence - replay.length + 1);
+        if (last < oldest - 1 || last > sequence) {
+            subscriber.offer(RESYNC);
+            return;
+        }
+        for (long replayed = last + 1; replayed <= sequence; replayed++) {
+            subscriber.offer(replay[(int) (replayed % replay.length)]);
+        }
+    }
+
+    private String serialize(ContactChangedEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static final class Notification {
+
+        private final String id;
+        private final String name;
+        private final String data;
+
+        private Notification(String id, String name, String data) {
+            this.id = id;
+            this.name = name;
+            this.data = data;
+        }
+
+        private SseEmitter.SseEventBuilder toEvent() {
+            if (name == null) {
+                return SseEmitter.event().comment("");
+            }
+            SseEmitter.SseEventBuilder event = SseEmitter.event();
+            if (id != null) {
+                event.id(id);
+            }
+            return event.name(name).data(data, MediaType.APPLICATION_JSON);
+        }
+    }
+
+    private final class Subscriber implements Runnable {
+
+        private final SseEmitter emitter;
+
+        private final Queue<Notification> queue = new ConcurrentLinkedQueue<>();
+
+        private final AtomicInteger size = new AtomicInteger();
+
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private volatile boolean overflowed;
+
+        private volatile boolean closed;
+
+        private boolean sending;
+
+        private long sendingSince;
+
+        private volatile boolean evicted;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        private void offer(Notification notification) {
+            if (size.incrementAndGet() > bufferSize) {
+                size.decrementAndGet();
+                overflowed = true;
+                return;
+            }
+            queue.add(notification);
+        }
+
+        private boolean isIdle() {
+            return size.get() == 0;
+        }
+
+        private void schedule() {
+            if (!closed && scheduled.compareAndSet(false, true)) {
+                try {
+                    sender.execute(this);
+                } catch (RejectedExecutionException e) {
+                    scheduled.set(false);
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                if (overflowed) {
+                    overflowed = false;
+                    while (queue.poll() != null) {
+                        size.decrementAndGet();
+                    }
+                    resyncs.increment();
+                    send(RESYNC);
+                }
+                Notification notification;
+                while (!closed && (notification = queue.poll()) != null) {
+                    size.decrementAndGet();
+                    send(notification);
+                }
+            } catch (IOException | IllegalStateException e) {
+                close();
+            } finally {
+                scheduled.set(false);
+            }
+            if (evicted) {
+                emitter.complete();
+                return;
+            }
+            if (overflowed || !queue.isEmpty()) {
+                schedule();
+            }
+        }
+
+        private void send(Notification notification) throws IOException {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                sending = true;
+                sendingSince = System.nanoTime();
+            }
+            try {
+                emitter.send(notification.toEvent());
+            } finally {
+                synchronized (this) {
+                    sending = false;
+                }
+            }
+        }
+
+        private synchronized boolean evictIfStuck(long now) {
+            if (closed || !sending || now - sendingSince <= writeTimeoutNanos) {
+                return false;
+            }
+            evicted = true;
+            close();
+            return true;
+        }
+
+        private void close() {
+            closed = true;
+            subscribers.remove(this);
+        }
+    }
+}
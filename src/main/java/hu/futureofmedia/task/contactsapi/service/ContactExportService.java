@@ -0,0 +1,85 @@
+package hu.futureofmedia.task.contactsapi.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import hu.futureofmedia.task.contactsapi.dto.ContactFileFormat;
+import hu.futureofmedia.task.contactsapi.dto.ContactInfo;
+import hu.futureofmedia.task.contactsapi.repositories.ContactRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Service
+@Transactional(readOnly = true)
+public class ContactExportService {
+
+    /**
+     * Rows written between two explicit flushes; values are buffered otherwise, so the response is not flushed
+     * after every single contact.
+     */
+    static final int FLUSH_INTERVAL = 1000;
+
+    private final ContactRepository contactRepository;
+
+    private final ObjectMapper objectMapper;
+
+    private final CsvMapper csvMapper;
+
+    public ContactExportService(ContactRepository contactRepository, ObjectMapper objectMapper) {
+        this.contactRepository = contactRepository;
+        this.objectMapper = objectMapper;
+        this.csvMapper = new CsvMapper();
+        this.csvMapper.registerModule(new JavaTimeModule());
+        this.csvMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        this.csvMapper.getFactory().disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    public void exportContacts(ContactFileFormat format, OutputStream out) throws IOException {
+        try (Stream<ContactInfo> contacts = contactRepository.streamAllOrderById()) {
+            if (format == ContactFileFormat.CSV) {
+                writeCsv(contacts.iterator(), out);
+            } else {
+                writeNdjson(contacts.iterator(), out);
+            }
+        }
+    }
+
+    private void writeNdjson(Iterator<ContactInfo> contacts, OutputStream out) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(ContactInfo.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            int written = 0;
+            while (contacts.hasNext()) {
+                writer.writeValue(generator, contacts.next());
+                generator.writeRaw('\n');
+                if (++written % FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                }
+            }
+        }
+    }
+
+    private void writeCsv(Iterator<ContactInfo> contacts, OutputStream out) throws IOException {
+        ObjectWriter writer = csvMapper.writer(csvMapper.schemaFor(ContactInfo.class).withHeader())
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (SequenceWriter sequenceWriter = writer.writeValues(out)) {
+            int written = 0;
+            while (contacts.hasNext()) {
+                sequenceWriter.write(contacts.next());
+                if (++written % FLUSH_INTERVAL == 0) {
+                    sequenceWriter.flush();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package hu.futureofmedia.task.contactsapi.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import hu.futureofmedia.task.contactsapi.dto.ContactBatchItemResult;
+import hu.futureofmedia.task.contactsapi.dto.ContactCreateUpdateCommand;
+import hu.futureofmedia.task.contactsapi.dto.ContactFileFormat;
+import hu.futureofmedia.task.contactsapi.exception.ErrorMessage;
+import hu.futureofmedia.task.contactsapi.property.ContactProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@EnableConfigurationProperties(ContactProperties.class)
+public class ContactImportService {
+
+    private final ContactService contactService;
+
+    private final ContactProperties contactProperties;
+
+    private final ObjectMapper objectMapper;
+
+    private final CsvMapper csvMapper;
+
+    public ContactImportService(ContactService contactService, ContactProperties contactProperties, ObjectMapper objectMapper) {
+        this.contactService = contactService;
+        this.contactProperties = contactProperties;
+        this.objectMapper = objectMapper;
+        this.csvMapper = new CsvMapper();
+        this.csvMapper.registerModule(new ParameterNamesModule());
+        this.csvMapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    public void importContacts(ContactFileFormat format, InputStream in, OutputStream out) throws IOException {
+        ObjectWriter resultWriter = objectMapper.writerFor(ContactBatchItemResult.class);
+        int chunkSize = contactProperties.getImportChunkSize();
+        try (MappingIterator<ContactCreateUpdateCommand> rows = reader(format).readValues(in);
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            List<ContactCreateUpdateCommand> chunk = new ArrayList<>(chunkSize);
+            long firstIndex = 0;
+            long index = 0;
+            boolean readable = true;
+            while (readable) {
+                ContactCreateUpdateCommand command = null;
+                ErrorMessage unreadable = null;
+                try {
+                    if (!rows.hasNextValue()) {
+                        break;
+                    }
+                    command = rows.nextValue();
+                } catch (JsonProcessingException e) {
+                    unreadable = new ErrorMessage(null, "unreadable row: " + e.getOriginalMessage());
+                    readable = !(e instanceof JsonParseException);
+                }
+                if (unreadable != null) {
+                    importChunk(chunk, firstIndex, resultWriter, generator);
+                    writeResults(List.of(ContactBatchItemResult.rejected(index, List.of(unreadable))), resultWriter, generator);
+                    firstIndex = ++index;
+                    continue;
+                }
+                chunk.add(format == ContactFileFormat.CSV ? normalizeCsvRow(command) : command);
+                index++;
+                if (chunk.size() == chunkSize) {
+                    importChunk(chunk, firstIndex, resultWriter, generator);
+                    firstIndex = index;
+                }
+            }
+            importChunk(chunk, firstIndex, resultWriter, generator);
+        }
+    }
+
+    private void importChunk(List<ContactCreateUpdateCommand> chunk, long firstIndex, ObjectWriter writer, JsonGenerator generator) throws IOException {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        writeResults(contactService.createContacts(chunk, firstIndex), writer, generator);
+        chunk.clear();
+    }
+
+    private ObjectReader reader(ContactFileFormat format) {
+        if (format == ContactFileFormat.CSV) {
+            return csvMapper.readerFor(ContactCreateUpdateCommand.class)
+                    .with(CsvSchema.emptySchema().withHeader());
+        }
+        return objectMapper.readerFor(ContactCreateUpdateCommand.class);
+    }
+
+    private ContactCreateUpdateCommand normalizeCsvRow(ContactCreateUpdateCommand command) {
+        if (command != null && "".equals(command.getPhoneNumber())) {
+            command.setPhoneNumber(null);
+        }
+        return command;
+    }
+
+    private void writeResults(List<ContactBatchItemResult> results, ObjectWriter writer, JsonGenerator generator) throws IOException {
+        for (ContactBatchItemResult result : results) {
+            writer.writeValue(generator, result);
+            generator.writeRaw('\n');
+        }
+        generator.flush();
+    }
+}
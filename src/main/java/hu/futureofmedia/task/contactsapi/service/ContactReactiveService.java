@@ -0,0 +1,51 @@
+package hu.futureofmedia.task.contactsapi.service;
+
+import hu.futureofmedia.task.contactsapi.dto.ContactInfo;
+import hu.futureofmedia.task.contactsapi.dto.ContactMinInfo;
+import hu.futureofmedia.task.contactsapi.entities.Contact;
+import hu.futureofmedia.task.contactsapi.exception.IdNotFoundException;
+import hu.futureofmedia.task.contactsapi.property.ContactProperties;
+import hu.futureofmedia.task.contactsapi.repositories.ContactReactiveRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Service
+public class ContactReactiveService {
+
+    private final ContactReactiveRepository contactReactiveRepository;
+
+    private final ContactProperties contactProperties;
+
+    public ContactReactiveService(ContactReactiveRepository contactReactiveRepository, ContactProperties contactProperties) {
+        this.contactReactiveRepository = contactReactiveRepository;
+        this.contactProperties = contactProperties;
+    }
+
+    public Mono<Page<ContactMinInfo>> getAllContacts(Integer page) {
+        Pageable pageable = PageRequest.of(page, contactProperties.getPageSize(), Sort.by("firstName", "lastName").ascending());
+        return contactReactiveRepository.findAllOrderByFullName(pageable.getOffset(), pageable.getPageSize())
+                .collectList()
+                .<Page<ContactMinInfo>>flatMap(content -> {
+                    if (content.size() < pageable.getPageSize() && (pageable.getOffset() == 0 || !content.isEmpty())) {
+                        return Mono.just(new PageImpl<>(content, pageable, pageable.getOffset() + content.size()));
+                    }
+                    return contactReactiveRepository.countAll()
+                            .map(total -> new PageImpl<>(content, pageable, total));
+                });
+    }
+
+    public Flux<ContactMinInfo> streamAllContacts() {
+        return contactReactiveRepository.streamAllOrderByFullName();
+    }
+
+    public Mono<ContactInfo> getContact(Long id) {
+        return contactReactiveRepository.findContactInfoById(id)
+                .switchIfEmpty(Mono.error(() -> new IdNotFoundException(id, Contact.class)));
+    }
+}
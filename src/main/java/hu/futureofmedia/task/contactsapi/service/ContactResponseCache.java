@@ -0,0 +1,143 @@
+package hu.futureofmedia.task.contactsapi.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import hu.futureofmedia.task.contactsapi.dto.ContactInfo;
+import hu.futureofmedia.task.contactsapi.event.ContactChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+@Component
+public class ContactResponseCache {
+
+    private static final int STRIPES = 64;
+
+    private final ObjectMapper objectMapper;
+
+    private final Cache<Long, CachedContact> cache;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final AtomicLongArray generations = new AtomicLongArray(STRIPES);
+
+    private final Object[] locks = new Object[STRIPES];
+
+    public ContactResponseCache(
+            ObjectMapper objectMapper,
+            @Value("${contact.response-cache.maximum-size:10000}") long maximumSize,
+            @Value("${contact.response-cache.time-to-live:PT10M}") Duration timeToLive) {
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .recordStats()
+                .build();
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    /**
+     * Returns the serialized contact of the given version. An entry is only served and only stored for the version the
+     * caller has already read, so a row loaded from a lagging replica cannot be returned under a newer ETag.
+     */
+    public byte[] getContact(Long id, long version, Function<Long, ContactInfo> loader) {
+        CachedContact cached = cache.getIfPresent(id);
+        if (cached != null && cached.version == version) {
+            hits.increment();
+            return cached.body;
+        }
+        misses.increment();
+        int stripe = stripe(id);
+        long generation = generations.get(stripe);
+        ContactInfo contact = loader.apply(id);
+        byte[] serialized = serialize(contact);
+        if (contact.getVersion() == null || contact.getVersion() != version) {
+            return serialized;
+        }
+        CachedContact loaded = new CachedContact(version, serialized);
+        synchronized (locks[stripe]) {
+            if (generations.get(stripe) == generation) {
+                cache.asMap().merge(id, loaded, (present, candidate) -> present.version > candidate.version ? present : candidate);
+            }
+        }
+        return serialized;
+    }
+
+    @EventListener
+    public void onContactChanged(ContactChangedEvent event) {
+        if (event.getType() != ContactChangedEvent.Type.CREATED) {
+            invalidate(event.getId());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION)
+    public void onContactChangeCompleted(ContactChangedEvent event) {
+        onContactChanged(event);
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public double getHitRate() {
+        long requests = getHitCount() + getMissCount();
+        return requests == 0 ? 1.0 : (double) getHitCount() / requests;
+    }
+
+    public long getEvictionCount() {
+        return cache.stats().evictionCount();
+    }
+
+    public long getSize() {
+        return cache.estimatedSize();
+    }
+
+    private void invalidate(Long id) {
+        int stripe = stripe(id);
+        synchronized (locks[stripe]) {
+            generations.incrementAndGet(stripe);
+            cache.invalidate(id);
+        }
+    }
+
+    private byte[] serialize(ContactInfo contact) {
+        try {
+            return objectMapper.writeValueAsBytes(contact);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private int stripe(Long id) {
+        return Long.hashCode(id) & (STRIPES - 1);
+    }
+
+    private static final class CachedContact {
+
+        private final long version;
+        private final byte[] body;
+
+        private CachedContact(long version, byte[] body) {
+            this.version = version;
+            this.body = body;
+        }
+    }
+}
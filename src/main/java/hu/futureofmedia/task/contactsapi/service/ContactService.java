@@ -1,61 +1,338 @@
 package hu.futureofmedia.task.contactsapi.service;
 
+import hu.futureofmedia.task.contactsapi.dto.ContactBatchItemResult;
+import hu.futureofmedia.task.contactsapi.dto.ContactBatchResult;
+import hu.futureofmedia.task.contactsapi.dto.ContactBulkDeleteCommand;
+import hu.futureofmedia.task.contactsapi.dto.ContactBulkResult;
+import hu.futureofmedia.task.contactsapi.dto.ContactCompanyReassignCommand;
 import hu.futureofmedia.task.contactsapi.dto.ContactCreateUpdateCommand;
+import hu.futureofmedia.task.contactsapi.dto.ContactCursorPage;
 import hu.futureofmedia.task.contactsapi.dto.ContactInfo;
 import hu.futureofmedia.task.contactsapi.dto.ContactMinInfo;
+import hu.futureofmedia.task.contactsapi.dto.ContactSuggestion;
+import hu.futureofmedia.task.contactsapi.dto.ContactVersion;
+import hu.futureofmedia.task.contactsapi.entities.Company;
 import hu.futureofmedia.task.contactsapi.entities.Contact;
+import hu.futureofmedia.task.contactsapi.event.ContactChangedEvent;
+import hu.futureofmedia.task.contactsapi.exception.ErrorMessage;
 import hu.futureofmedia.task.contactsapi.exception.IdNotFoundException;
+import hu.futureofmedia.task.contactsapi.exception.VersionMismatchException;
 import hu.futureofmedia.task.contactsapi.property.ContactProperties;
 import hu.futureofmedia.task.contactsapi.repositories.ContactRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.json.JsonMergePatch;
+import javax.json.JsonValue;
+import javax.persistence.EntityManager;
+import javax.validation.ConstraintViolation;
+import javax.validation.ConstraintViolationException;
+import javax.validation.Validator;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
 @Service
 @Transactional
 @EnableConfigurationProperties(ContactProperties.class)
 public class ContactService {
 
+    private static final Pattern SEARCH_TERM_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}@._-]+");
+
+    private static final int MAX_SEARCH_TERMS = 8;
+
+    private static final Set<String> PATCHABLE_FIELDS = Set.of("firstName", "lastName", "email", "phoneNumber", "companyId", "comment");
+
     private final ContactRepository contactRepository;
 
     private final CompanyService companyService;
 
     private final ContactProperties contactProperties;
 
+    private final ContactCountEstimator contactCountEstimator;
+
+    private final Validator validator;
+
+    private final EntityManager entityManager;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final ObjectMapper objectMapper;
+
     public ContactService(
             ContactRepository contactRepository,
             CompanyService companyService,
-            ContactProperties contactProperties) {
+            ContactProperties contactProperties,
+            ContactCountEstimator contactCountEstimator,
+            Validator validator,
+            EntityManager entityManager,
+            ApplicationEventPublisher eventPublisher,
+            ObjectMapper objectMapper) {
         this.contactRepository = contactRepository;
         this.companyService = companyService;
         this.contactProperties = contactProperties;
+        this.contactCountEstimator = contactCountEstimator;
+        this.validator = validator;
+        this.entityManager = entityManager;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
     }
 
     public ContactInfo createContact(ContactCreateUpdateCommand command) {
         Contact toSave = mapToContact(command);
         Contact saved = contactRepository.save(toSave);
+        publishChange(ContactChangedEvent.Type.CREATED, saved);
         return mapToInfo(saved);
     }
 
+    public ContactBatchResult createContacts(List<ContactCreateUpdateCommand> commands) {
+        if (commands.size() > contactProperties.getBatchMaxSize()) {
+            throw new IllegalArgumentException(
+                    String.format("Batch must not contain more than %d contacts!", contactProperties.getBatchMaxSize()));
+        }
+        return new ContactBatchResult(createContacts(commands, 0));
+    }
+
+    public List<ContactBatchItemResult> createContacts(List<ContactCreateUpdateCommand> commands, long firstIndex) {
+        List<ContactBatchItemResult> results = new ArrayList<>(commands.size());
+        int pending = 0;
+        for (int i = 0; i < commands.size(); i++) {
+            long index = firstIndex + i;
+            ContactCreateUpdateCommand command = commands.get(i);
+            List<ErrorMessage> errors = validate(command);
+            if (!errors.isEmpty()) {
+                results.add(ContactBatchItemResult.rejected(index, errors));
+                continue;
+            }
+            Contact toSave;
+            try {
+                toSave = mapToContact(command);
+            } catch (IdNotFoundException e) {
+                results.add(ContactBatchItemResult.rejected(index, List.of(new ErrorMessage("companyId",
+                        String.format("not found class %s entity with id %d", Company.class.getSimpleName(), e.getId())))));
+                continue;
+            }
+            entityManager.persist(toSave);
+            publishChange(ContactChangedEvent.Type.CREATED, toSave);
+            results.add(ContactBatchItemResult.created(index, toSave.getId()));
+            if (++pending == contactProperties.getBatchSize()) {
+                entityManager.flush();
+                entityManager.clear();
+                pending = 0;
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return results;
+    }
+
+    @Transactional(readOnly = true)
     public Page<ContactMinInfo> getAllContacts(Integer page) {
         Pageable pageable = PageRequest.of(page, contactProperties.getPageSize(), Sort.by("firstName", "lastName").ascending());
         return contactRepository.getAllContactOrderByFullNameWithPagination(pageable);
     }
 
+    @Transactional(readOnly = true)
+    public Slice<ContactMinInfo> getAllContactsAsSlice(Integer page) {
+        Pageable pageable = PageRequest.of(page, contactProperties.getPageSize(), Sort.by("firstName", "lastName").ascending());
+        return contactRepository.getAllContactOrderByFullNameAsSlice(pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<ContactMinInfo> getAllContactsWithEstimatedTotal(Integer page) {
+        Slice<ContactMinInfo> slice = getAllContactsAsSlice(page);
+        long offset = slice.getPageable().getOffset();
+        long total;
+        if (slice.hasNext()) {
+            total = Math.max(contactCountEstimator.estimateActiveContacts(), offset + slice.getNumberOfElements() + 1);
+        } else if (slice.hasContent()) {
+            total = offset + slice.getNumberOfElements();
+        } else {
+            total = Math.min(contactCountEstimator.estimateActiveContacts(), offset);
+        }
+        return new PageImpl<>(slice.getContent(), slice.getPageable(), total);
+    }
+
+    @Transactional(readOnly = true)
+    public ContactCursorPage getAllContactsByCursor(String cursor) {
+        int pageSize = contactProperties.getPageSize();
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        if (cursor == null || cursor.isEmpty()) {
+            List<ContactMinInfo> rows = contactRepository.getFirstContactsOrderByFullName(limit);
+            return toCursorPage(rows, pageSize, false);
+        }
+        ContactCursor from = ContactCursor.decode(cursor);
+        if (from.isForward()) {
+            List<ContactMinInfo> rows = contactRepository.getContactsAfterOrderByFullName(
+                    from.getFirstName(), from.getLastName(), from.getId(), limit);
+            if (rows.isEmpty()) {
+                return new ContactCursorPage(List.of(), pageSize, null, from.reverse().encode());
+            }
+            return toCursorPage(rows, pageSize, true);
+        }
+        List<ContactMinInfo> rows = contactRepository.getContactsBeforeOrderByFullNameDesc(
+                from.getFirstName(), from.getLastName(), from.getId(), limit);
+        if (rows.isEmpty()) {
+            return new ContactCursorPage(List.of(), pageSize, from.reverse().encode(), null);
+        }
+        boolean hasPrevious = rows.size() > pageSize;
+        List<ContactMinInfo> content = new ArrayList<>(rows.subList(0, Math.min(rows.size(), pageSize)));
+        Collections.reverse(content);
+        return new ContactCursorPage(
+                content,
+                pageSize,
+                ContactCursor.after(content.get(content.size() - 1)).encode(),
+                hasPrevious ? ContactCursor.before(content.get(0)).encode() : null);
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<ContactMinInfo> searchContacts(String query, Integer page) {
+        List<String> terms = SEARCH_TERM_SEPARATOR.splitAsStream(query == null ? "" : query.toLowerCase(Locale.ROOT))
+                .filter(term -> !term.isEmpty())
+                .distinct()
+                .collect(Collectors.toList());
+        if (terms.isEmpty()) {
+            throw new IllegalArgumentException("Search query must contain at least one word!");
+        }
+        if (terms.size() > MAX_SEARCH_TERMS) {
+            throw new IllegalArgumentException(String.format("Search query must not contain more than %d words!", MAX_SEARCH_TERMS));
+        }
+        return contactRepository.searchContacts(terms, PageRequest.of(page, contactProperties.getPageSize()));
+    }
+
+    @Transactional(readOnly = true)
     public ContactInfo getContact(Long id) {
-        return mapToInfo(findContactById(id));
+        return contactRepository.findWithCompanyById(id)
+                .map(this::mapToInfo)
+                .orElseThrow(() -> new IdNotFoundException(id, Contact.class));
+    }
+
+    @Transactional(readOnly = true)
+    public ContactVersion getContactVersion(Long id) {
+        return contactRepository.findVersionById(id)
+                .orElseThrow(() -> new IdNotFoundException(id, Contact.class));
     }
 
     public ContactInfo updateContact(Long id, ContactCreateUpdateCommand command) {
-        Contact toUpdate = mapToContact(findContactById(id), command);
+        return updateContact(id, command, null);
+    }
+
+    public ContactInfo updateContact(Long id, ContactCreateUpdateCommand command, Long expectedVersion) {
+        Contact toUpdate = mapToContact(findContactById(id, expectedVersion), command);
         Contact updated = contactRepository.saveAndFlush(toUpdate);
+        publishChange(ContactChangedEvent.Type.UPDATED, updated);
+        return mapToInfo(updated);
+    }
+
+    public ContactInfo patchContact(Long id, JsonMergePatch patch) {
+        return patchContact(id, patch, null);
+    }
+
+    public ContactInfo patchContact(Long id, JsonMergePatch patch, Long expectedVersion) {
+        JsonValue changes = patch.toJsonValue();
+        if (changes.getValueType() != JsonValue.ValueType.OBJECT) {
+            throw new IllegalArgumentException("Merge patch must be a JSON object!");
+        }
+        Set<String> changedFields = changes.asJsonObject().keySet();
+        for (String field : changedFields) {
+            if (!PATCHABLE_FIELDS.contains(field)) {
+                throw new IllegalArgumentException(String.format("Unknown field: %s!", field));
+            }
+        }
+        Contact contact = findContactById(id, expectedVersion);
+        ContactCreateUpdateCommand patched = objectMapper.convertValue(
+                patch.apply(objectMapper.convertValue(mapToCommand(contact), JsonValue.class)),
+                ContactCreateUpdateCommand.class);
+        Set<ConstraintViolation<ContactCreateUpdateCommand>> violations = new LinkedHashSet<>();
+        changedFields.forEach(field -> violations.addAll(validator.validateProperty(patched, field)));
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+        Contact updated = contactRepository.saveAndFlush(mapToContact(contact, patched));
+        publishChange(ContactChangedEvent.Type.UPDATED, updated);
         return mapToInfo(updated);
     }
 
     public void deleteContact(Long id) {
-        Contact toDelete = findContactById(id);
-        contactRepository.delete(toDelete);
+        deleteContact(id, null);
+    }
+
+    public void deleteContact(Long id, Long expectedVersion) {
+        Contact toDelete = findContactById(id, expectedVersion);
+        contactRepository.saveAndFlush(toDelete.setStatus(Contact.Status.DELETED));
+        publishChange(ContactChangedEvent.Type.DELETED, toDelete);
+    }
+
+    public ContactBulkResult deleteContacts(ContactBulkDeleteCommand command) {
+        List<Long> ids = command.getIds();
+        Long companyId = command.getCompanyId();
+        if ((ids == null) == (companyId == null)) {
+            throw new IllegalArgumentException("Exactly one of ids and companyId must be given!");
+        }
+        if (ids != null) {
+            if (ids.size() > contactProperties.getBatchMaxSize()) {
+                throw new IllegalArgumentException(
+                        String.format("Bulk delete must not contain more than %d ids!", contactProperties.getBatchMaxSize()));
+            }
+            if (ids.isEmpty()) {
+                return new ContactBulkResult(0);
+            }
+            return publishChanges(ContactChangedEvent.Type.DELETED, contactRepository.softDeleteByIdIn(ids, LocalDateTime.now()));
+        }
+        companyService.findCompanyById(companyId);
+        return publishChanges(ContactChangedEvent.Type.DELETED, contactRepository.softDeleteByCompanyId(companyId, LocalDateTime.now()));
+    }
+
+    public ContactBulkResult reassignCompany(ContactCompanyReassignCommand command) {
+        if (command.getFromCompanyId().equals(command.getToCompanyId())) {
+            throw new IllegalArgumentException("Source and target company must differ!");
+        }
+        companyService.findCompanyById(command.getFromCompanyId());
+        companyService.findCompanyById(command.getToCompanyId());
+        return publishChanges(ContactChangedEvent.Type.UPDATED, contactRepository.reassignCompany(
+                command.getFromCompanyId(), command.getToCompanyId(), LocalDateTime.now()));
+    }
+
+    /**
+     * The bulk updates return the contacts they changed, so an event is published only for contacts really changed.
+     */
+    private ContactBulkResult publishChanges(ContactChangedEvent.Type type, List<ContactSuggestion> changed) {
+        changed.forEach(contact -> eventPublisher.publishEvent(
+                new ContactChangedEvent(type, contact.getId(), contact.getFirstName(), contact.getLastName())));
+        return new ContactBulkResult(changed.size());
+    }
+
+    private void publishChange(ContactChangedEvent.Type type, Contact contact) {
+        eventPublisher.publishEvent(new ContactChangedEvent(type, contact.getId(), contact.getFirstName(), contact.getLastName()));
+    }
+
+    private ContactCursorPage toCursorPage(List<ContactMinInfo> rows, int pageSize, boolean hasPrevious) {
+        boolean hasNext = rows.size() > pageSize;
+        List<ContactMinInfo> content = hasNext ? rows.subList(0, pageSize) : rows;
+        return new ContactCursorPage(
+                content,
+                pageSize,
+                hasNext ? ContactCursor.after(content.get(content.size() - 1)).encode() : null,
+                hasPrevious && !content.isEmpty() ? ContactCursor.before(content.get(0)).encode() : null);
+    }
+
+    private List<ErrorMessage> validate(ContactCreateUpdateCommand command) {
+        if (command == null) {
+            return List.of(new ErrorMessage(null, "must not be null"));
+        }
+        return validator.validate(command).stream()
+                .map(violation -> new ErrorMessage(violation.getPropertyPath().toString(), violation.getMessage()))
+                .collect(Collectors.toList());
     }
 
     private Contact findContactById(Long id) {
@@ -63,7 +340,15 @@ public class ContactService {
                 .orElseThrow(() -> new IdNotFoundException(id, Contact.class));
     }
 
-    private Contact mapToContact(ContactCreateUpdateCommand command) {
+    private Contact findContactById(Long id, Long expectedVersion) {
+        Contact contact = findContactById(id);
+        if (expectedVersion != null && !expectedVersion.equals(contact.getVersion())) {
+            throw new VersionMismatchException(id, Contact.class, contact.getVersion());
+        }
+        return contact;
+    }
+
+    Contact mapToContact(ContactCreateUpdateCommand command) {
         return new Contact(
                 command.getFirstName().trim(),
                 command.getLastName().trim(),
@@ -75,6 +360,17 @@ public class ContactService {
         );
     }
 
+    private ContactCreateUpdateCommand mapToCommand(Contact contact) {
+        return new ContactCreateUpdateCommand(
+                contact.getFirstName(),
+                contact.getLastName(),
+                contact.getEmail(),
+                contact.getPhoneNumber(),
+                contact.getCompany().getId(),
+                contact.getComment()
+        );
+    }
+
     private Contact mapToContact(Contact saved, ContactCreateUpdateCommand command) {
         return saved
                 .setFirstName(command.getFirstName().trim())
@@ -85,7 +381,7 @@ public class ContactService {
                 .setCompany(companyService.findCompanyById(command.getCompanyId()));
     }
 
-    private ContactInfo mapToInfo(Contact contact) {
+    ContactInfo mapToInfo(Contact contact) {
         return new ContactInfo(
                 contact.getId(),
                 contact.getFirstName(),
@@ -95,7 +391,8 @@ public class ContactService {
                 contact.getCompany().getName(),
                 contact.getComment(),
                 contact.getCreatedDate(),
-                contact.getLastModifiedDate()
+                contact.getLastModifiedDate(),
+                contact.getVersion()
         );
     }
 
@@ -0,0 +1,154 @@
+package hu.futureofmedia.task.contactsapi.service;
+
+import hu.futureofmedia.task.contactsapi.dto.ContactSuggestion;
+import hu.futureofmedia.task.contactsapi.event.ContactChangedEvent;
+import hu.futureofmedia.task.contactsapi.property.ContactProperties;
+import hu.futureofmedia.task.contactsapi.repositories.ContactRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.text.Normalizer;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Service
+@EnableConfigurationProperties(ContactProperties.class)
+public class ContactSuggestionService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ContactSuggestionService.class);
+
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    private static final Pattern WHITESPACES = Pattern.compile("\\s+");
+
+    private final ContactRepository contactRepository;
+
+    private final ContactProperties contactProperties;
+
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final ConcurrentSkipListMap<String, ContactSuggestion> byName = new ConcurrentSkipListMap<>();
+
+    private final ConcurrentHashMap<Long, ContactSuggestion> byId = new ConcurrentHashMap<>();
+
+    private final Set<Long> removedWhileLoading = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean loading;
+
+    public ContactSuggestionService(
+            ContactRepository contactRepository,
+            ContactProperties contactProperties,
+            PlatformTransactionManager transactionManager) {
+        this.contactRepository = contactRepository;
+        this.contactProperties = contactProperties;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadSuggestions() {
+        loading = true;
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<ContactSuggestion> suggestions = contactRepository.streamAllSuggestions()) {
+                    suggestions
+                            .filter(suggestion -> !removedWhileLoading.contains(suggestion.getId()))
+                            .forEach(suggestion -> byId.computeIfAbsent(suggestion.getId(), id -> {
+                                addKeys(suggestion);
+                                return suggestion;
+                            }));
+                }
+            });
+        } finally {
+            loading = false;
+            removedWhileLoading.clear();
+        }
+        LOGGER.info("Contact suggestion index loaded with {} contacts", byId.size());
+    }
+
+    @TransactionalEventListener
+    public void onContactChanged(ContactChangedEvent event) {
+        if (event.getType() == ContactChangedEvent.Type.DELETED) {
+            if (loading) {
+                removedWhileLoading.add(event.getId());
+            }
+            remove(event.getId());
+            return;
+        }
+        ContactSuggestion suggestion = new ContactSuggestion(event.getId(), event.getFirstName(), event.getLastName());
+        byId.compute(suggestion.getId(), (id, previous) -> {
+            if (previous != null) {
+                removeKeys(previous);
+            }
+            addKeys(suggestion);
+            return suggestion;
+        });
+    }
+
+    public List<ContactSuggestion> suggestContacts(String query) {
+        String prefix = normalize(query == null ? "" : query);
+        if (prefix.isEmpty()) {
+            return List.of();
+        }
+        ConcurrentNavigableMap<String, ContactSuggestion> matches =
+                byName.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+        return matches.values().stream()
+                .distinct()
+                .limit(contactProperties.getPageSize())
+                .collect(Collectors.toList());
+    }
+
+    public int getIndexedContactCount() {
+        return byId.size();
+    }
+
+    /**
+     * The name keys of a contact are only changed while its {@code byId} entry is locked, so concurrent events of the
+     * same contact cannot leave the keys of an older name behind.
+     */
+    private void remove(Long id) {
+        byId.computeIfPresent(id, (key, previous) -> {
+            removeKeys(previous);
+            return null;
+        });
+    }
+
+    private void addKeys(ContactSuggestion suggestion) {
+        byName.put(firstLastKey(suggestion), suggestion);
+        byName.put(lastFirstKey(suggestion), suggestion);
+    }
+
+    private void removeKeys(ContactSuggestion suggestion) {
+        byName.remove(firstLastKey(suggestion), suggestion);
+        byName.remove(lastFirstKey(suggestion), suggestion);
+    }
+
+    private String firstLastKey(ContactSuggestion suggestion) {
+        return normalize(suggestion.getFirstName() + ' ' + suggestion.getLastName()) + KEY_SEPARATOR + suggestion.getId();
+    }
+
+    private String lastFirstKey(ContactSuggestion suggestion) {
+        return normalize(suggestion.getLastName() + ' ' + suggestion.getFirstName()) + KEY_SEPARATOR + suggestion.getId();
+    }
+
+    static String normalize(String name) {
+        String withoutAccents = COMBINING_MARKS.matcher(Normalizer.normalize(name, Normalizer.Form.NFD)).replaceAll("");
+        return WHITESPACES.matcher(withoutAccents.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+}
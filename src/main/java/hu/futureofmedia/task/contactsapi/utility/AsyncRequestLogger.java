@@ -0,0 +1,160 @@
+package hu.futureofmedia.task.contactsapi.utility;
+
+import hu.futureofmedia.task.contactsapi.dto.ContactCreateUpdateCommand;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.json.Json;
+import javax.json.JsonObject;
+import javax.json.JsonObjectBuilder;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static net.logstash.logback.argument.StructuredArguments.value;
+
+public class AsyncRequestLogger {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncRequestLogger.class);
+
+    private static final Pattern EMAIL = Pattern.compile("[\\w.%+-]+(@|%40)[\\w-]+(\\.[\\w-]+)+");
+
+    private static final String REDACTED = "***";
+
+    private final BlockingQueue<RequestLogEntry> queue;
+
+    private final double successSampleRate;
+
+    private final LongAdder written = new LongAdder();
+
+    private final LongAdder dropped = new LongAdder();
+
+    private final LongAdder sampledOut = new LongAdder();
+
+    private volatile boolean running;
+
+    private Thread writer;
+
+    public AsyncRequestLogger(int queueCapacity, double successSampleRate) {
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.successSampleRate = successSampleRate;
+    }
+
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        writer = new Thread(this::drain, "request-log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    public synchronized void stop() throws InterruptedException {
+        if (!running) {
+            return;
+        }
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    public void log(RequestLogEntry entry) {
+        if (entry.getStatus() < 400 && successSampleRate < 1.0
+                && ThreadLocalRandom.current().nextDouble() >= successSampleRate) {
+            sampledOut.increment();
+            return;
+        }
+        if (!queue.offer(entry)) {
+            dropped.increment();
+        }
+    }
+
+    public long getWrittenCount() {
+        return written.sum();
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public long getSampledOutCount() {
+        return sampledOut.sum();
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    private void drain() {
+        while (running || !queue.isEmpty()) {
+            try {
+                RequestLogEntry entry = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (entry != null) {
+                    write(entry);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                LOGGER.warn("Could not write request log entry", e);
+            }
+        }
+    }
+
+    /**
+     * The values are also passed as structured arguments, so a JSON encoder (see the json-logs profile in
+     * logback-spring.xml) writes them as separate fields.
+     */
+    void write(RequestLogEntry entry) {
+        entry.getLogger().info("HTTP request: {} {}{}; Status: {}; Duration: {} ms; Body: {}",
+                value("http.method", entry.getMethod()),
+                value("http.path", entry.getUri()),
+                entry.getQuery() == null ? "" : value("http.query", "?" + redact(entry.getQuery())),
+                value("http.status", entry.getStatus()),
+                value("http.duration_ms", TimeUnit.NANOSECONDS.toMillis(entry.getDurationNanos())),
+                value("http.body", entry.getBody()));
+        written.increment();
+    }
+
+    static String formatBody(Object[] body) {
+        if (body.length == 0) {
+            return "no request body";
+        }
+        return Arrays.stream(body)
+                .map(AsyncRequestLogger::formatParameter)
+                .collect(Collectors.joining(", "));
+    }
+
+    private static String formatParameter(Object parameter) {
+        if (parameter instanceof ContactCreateUpdateCommand) {
+            ContactCreateUpdateCommand command = (ContactCreateUpdateCommand) parameter;
+            return new ContactCreateUpdateCommand(
+                    command.getFirstName(),
+                    command.getLastName(),
+                    command.getEmail() == null ? null : REDACTED,
+                    command.getPhoneNumber() == null ? null : REDACTED,
+                    command.getCompanyId(),
+                    command.getComment()).toString();
+        }
+        if (parameter instanceof JsonObject) {
+            JsonObject patch = (JsonObject) parameter;
+            JsonObjectBuilder redacted = Json.createObjectBuilder(patch);
+            for (String field : new String[]{"email", "phoneNumber"}) {
+                if (patch.containsKey(field) && !patch.isNull(field)) {
+                    redacted.add(field, REDACTED);
+                }
+            }
+            return redacted.build().toString();
+        }
+        return String.valueOf(parameter);
+    }
+
+    static String redact(String query) {
+        return EMAIL.matcher(query).replaceAll(REDACTED);
+    }
+}
@@ -0,0 +1,183 @@
+package hu.futureofmedia.task.contactsapi.utility;
+
+import com.google.protobuf.Message;
+import hu.futureofmedia.task.contactsapi.dto.ContactInfo;
+import hu.futureofmedia.task.contactsapi.dto.ContactMinInfo;
+import hu.futureofmedia.task.contactsapi.exception.ErrorMessage;
+import hu.futureofmedia.task.contactsapi.protobuf.ContactProtos;
+import org.springframework.core.ResolvableType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Writes the contact DTOs in the protobuf representation defined by {@code contacts.proto}.
+ * Only responses are supported, requests are still read as JSON.
+ */
+public class ContactProtobufHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public static final String APPLICATION_PROTOBUF_VALUE = "application/x-protobuf";
+
+    public static final MediaType APPLICATION_PROTOBUF = MediaType.valueOf(APPLICATION_PROTOBUF_VALUE);
+
+    public ContactProtobufHttpMessageConverter() {
+        super(APPLICATION_PROTOBUF);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return ContactInfo.class.isAssignableFrom(clazz) || Slice.class.isAssignableFrom(clazz) || List.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        if (!canWrite(mediaType)) {
+            return false;
+        }
+        ResolvableType resolvableType = type != null ? ResolvableType.forType(type) : ResolvableType.forClass(clazz);
+        Class<?> resolved = resolvableType.resolve(Object.class);
+        if (resolved == Object.class) {
+            resolved = clazz;
+        }
+        if (ContactInfo.class.isAssignableFrom(resolved)) {
+            return true;
+        }
+        if (Slice.class.isAssignableFrom(resolved)) {
+            return hasElementType(resolvableType.as(Slice.class), ContactMinInfo.class);
+        }
+        if (List.class.isAssignableFrom(resolved)) {
+            return hasElementType(resolvableType.as(List.class), ErrorMessage.class);
+        }
+        return false;
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+        Message message = toMessage(object);
+        outputMessage.getHeaders().setContentLength(message.getSerializedSize());
+        message.writeTo(outputMessage.getBody());
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Reading protobuf requests is not supported!", inputMessage);
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) {
+        return readInternal(null, inputMessage);
+    }
+
+    private boolean hasElementType(ResolvableType container, Class<?> elementType) {
+        Class<?> element = container.resolveGeneric(0);
+        return element == null || elementType.isAssignableFrom(element);
+    }
+
+    private Message toMessage(Object object) {
+        if (object instanceof ContactInfo) {
+            return toContactInfo((ContactInfo) object);
+        }
+        if (object instanceof Slice) {
+            return toContactMinInfoPage((Slice<?>) object);
+        }
+        if (object instanceof List) {
+            return toErrorMessages((List<?>) object);
+        }
+        throw new HttpMessageNotWritableException("No protobuf representation of " + object.getClass().getName());
+    }
+
+    private ContactProtos.ContactInfo toContactInfo(ContactInfo contact) {
+        ContactProtos.ContactInfo.Builder builder = ContactProtos.ContactInfo.newBuilder()
+                .setId(contact.getId())
+                .setFirstName(contact.getFirstName())
+                .setLastName(contact.getLastName())
+                .setEmail(contact.getEmail())
+                .setCompanyName(contact.getCompanyName())
+                .setCreatedDate(format(contact.getCreatedDate()))
+                .setLastUpdatedDate(format(contact.getLastUpdatedDate()));
+        if (contact.getPhoneNumber() != null) {
+            builder.setPhoneNumber(contact.getPhoneNumber());
+        }
+        if (contact.getComment() != null) {
+            builder.setComment(contact.getComment());
+        }
+        if (contact.getVersion() != null) {
+            builder.setVersion(contact.getVersion());
+        }
+        return builder.build();
+    }
+
+    private ContactProtos.ContactMinInfoPage toContactMinInfoPage(Slice<?> slice) {
+        ContactProtos.ContactMinInfoPage.Builder builder = ContactProtos.ContactMinInfoPage.newBuilder()
+                .setNumber(slice.getNumber())
+                .setSize(slice.getSize())
+                .setNumberOfElements(slice.getNumberOfElements())
+                .setFirst(slice.isFirst())
+                .setLast(slice.isLast());
+        for (Object element : slice.getContent()) {
+            if (!(element instanceof ContactMinInfo)) {
+                throw new HttpMessageNotWritableException("No protobuf representation of " + element.getClass().getName());
+            }
+            builder.addContent(toContactMinInfo((ContactMinInfo) element));
+        }
+        if (slice instanceof Page) {
+            Page<?> page = (Page<?>) slice;
+            builder.setTotalElements(page.getTotalElements()).setTotalPages(page.getTotalPages());
+        }
+        return builder.build();
+    }
+
+    private ContactProtos.ContactMinInfo toContactMinInfo(ContactMinInfo contact) {
+        ContactProtos.ContactMinInfo.Builder builder = ContactProtos.ContactMinInfo.newBuilder()
+                .setId(contact.getId())
+                .setFullName(contact.getFullName())
+                .setEmail(contact.getEmail())
+                .setCompanyName(contact.getCompanyName());
+        if (contact.getPhoneNumber() != null) {
+            builder.setPhoneNumber(contact.getPhoneNumber());
+        }
+        return builder.build();
+    }
+
+    private ContactProtos.ErrorMessages toErrorMessages(List<?> errors) {
+        ContactProtos.ErrorMessages.Builder builder = ContactProtos.ErrorMessages.newBuilder();
+        for (Object element : errors) {
+            if (!(element instanceof ErrorMessage)) {
+                throw new HttpMessageNotWritableException("No protobuf representation of " + element.getClass().getName());
+            }
+            ErrorMessage error = (ErrorMessage) element;
+            ContactProtos.ErrorMessage.Builder errorBuilder = ContactProtos.ErrorMessage.newBuilder()
+                    .setErrorMessage(error.getErrorMessage());
+            if (error.getField() != null) {
+                errorBuilder.setField(error.getField());
+            }
+            builder.addErrors(errorBuilder);
+        }
+        return builder.build();
+    }
+
+    private String format(LocalDateTime dateTime) {
+        return dateTime == null ? "" : DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(dateTime);
+    }
+}
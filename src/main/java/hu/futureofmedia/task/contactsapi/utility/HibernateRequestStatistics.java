@@ -0,0 +1,49 @@
+package hu.futureofmedia.task.contactsapi.utility;
+
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.EmptyInterceptor;
+import org.hibernate.type.Type;
+
+import java.io.Serializable;
+
+/**
+ * Counts the entities loaded and, through {@link StatementCounter}, the statements prepared by Hibernate on the
+ * current thread. Statements are not counted in {@link #onPrepareStatement(String)}, as Hibernate does not call it
+ * when a statement inspector is configured.
+ */
+public class HibernateRequestStatistics extends EmptyInterceptor {
+
+    private static final int STATEMENTS = 0;
+
+    private static final int ENTITY_LOADS = 1;
+
+    private static final ThreadLocal<long[]> COUNTS = ThreadLocal.withInitial(() -> new long[2]);
+
+    @Override
+    public boolean onLoad(Object entity, Serializable id, Object[] state, String[] propertyNames, Type[] types) {
+        COUNTS.get()[ENTITY_LOADS]++;
+        return false;
+    }
+
+    public static void reset() {
+        long[] counts = COUNTS.get();
+        counts[STATEMENTS] = 0;
+        counts[ENTITY_LOADS] = 0;
+    }
+
+    public static long getStatementCount() {
+        return COUNTS.get()[STATEMENTS];
+    }
+
+    public static long getEntityLoadCount() {
+        return COUNTS.get()[ENTITY_LOADS];
+    }
+
+    public static class StatementCounter extends BaseSessionEventListener {
+
+        @Override
+        public void jdbcPrepareStatementStart() {
+            COUNTS.get()[STATEMENTS]++;
+        }
+    }
+}
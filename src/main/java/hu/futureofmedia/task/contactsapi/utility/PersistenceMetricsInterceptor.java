@@ -0,0 +1,58 @@
+package hu.futureofmedia.task.contactsapi.utility;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.DispatcherType;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Records the Hibernate work of synchronously handled requests. The work of async requests (reactive, SSE and other
+ * async results) runs on other threads, which the thread bound counts cannot attribute, so they are not recorded.
+ */
+public class PersistenceMetricsInterceptor implements HandlerInterceptor {
+
+    private final MeterRegistry meterRegistry;
+
+    private final ConcurrentMap<String, DistributionSummary[]> summaries = new ConcurrentHashMap<>();
+
+    public PersistenceMetricsInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() == DispatcherType.REQUEST) {
+            HibernateRequestStatistics.reset();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getDispatcherType() != DispatcherType.REQUEST) {
+            return;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+        String method = request.getMethod();
+        DistributionSummary[] perEndpoint = summaries.computeIfAbsent(method + ' ' + uri, key -> new DistributionSummary[]{
+                summary("contacts.hibernate.statements", "JDBC statements prepared by Hibernate per request", method, uri),
+                summary("contacts.hibernate.entity.loads", "Entities loaded by Hibernate per request", method, uri)});
+        perEndpoint[0].record(HibernateRequestStatistics.getStatementCount());
+        perEndpoint[1].record(HibernateRequestStatistics.getEntityLoadCount());
+    }
+
+    private DistributionSummary summary(String name, String description, String method, String uri) {
+        return DistributionSummary.builder(name)
+                .description(description)
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry);
+    }
+}
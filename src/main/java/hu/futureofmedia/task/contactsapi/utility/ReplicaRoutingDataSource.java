@@ -0,0 +1,29 @@
+package hu.futureofmedia.task.contactsapi.utility;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY, REPLICA
+    }
+
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = ThreadLocal.withInitial(() -> false);
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (PRIMARY_REQUIRED.get() || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return Route.PRIMARY;
+        }
+        return Route.REPLICA;
+    }
+
+    public static void requirePrimary() {
+        PRIMARY_REQUIRED.set(true);
+    }
+
+    public static void reset() {
+        PRIMARY_REQUIRED.remove();
+    }
+}
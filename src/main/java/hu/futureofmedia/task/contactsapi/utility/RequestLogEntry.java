@@ -0,0 +1,75 @@
+package hu.futureofmedia.task.contactsapi.utility;
+
+import org.slf4j.Logger;
+
+public final class RequestLogEntry {
+
+    private final Logger logger;
+
+    private final String method;
+
+    private final String uri;
+
+    private final String query;
+
+    private final Object[] parameters;
+
+    private final String body;
+
+    private final long startNanos;
+
+    private final int status;
+
+    private final long durationNanos;
+
+    RequestLogEntry(Logger logger, String method, String uri, String query, Object[] parameters, long startNanos) {
+        this(logger, method, uri, query, parameters, null, startNanos, 0, 0);
+    }
+
+    private RequestLogEntry(Logger logger, String method, String uri, String query, Object[] parameters, String body, long startNanos, int status, long durationNanos) {
+        this.logger = logger;
+        this.method = method;
+        this.uri = uri;
+        this.query = query;
+        this.parameters = parameters;
+        this.body = body;
+        this.startNanos = startNanos;
+        this.status = status;
+        this.durationNanos = durationNanos;
+    }
+
+    /**
+     * Renders the request body on the request thread, so the logged objects are neither kept nor read by the writer.
+     */
+    public RequestLogEntry completed(int status, long endNanos) {
+        return new RequestLogEntry(logger, method, uri, query, null, AsyncRequestLogger.formatBody(parameters), startNanos, status, endNanos - startNanos);
+    }
+
+    public Logger getLogger() {
+        return logger;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getUri() {
+        return uri;
+    }
+
+    public String getQuery() {
+        return query;
+    }
+
+    public String getBody() {
+        return body;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+}
@@ -0,0 +1,25 @@
+package hu.futureofmedia.task.contactsapi.utility;
+
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+public class RequestLogInterceptor implements HandlerInterceptor {
+
+    private final AsyncRequestLogger asyncRequestLogger;
+
+    public RequestLogInterceptor(AsyncRequestLogger asyncRequestLogger) {
+        this.asyncRequestLogger = asyncRequestLogger;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object entry = request.getAttribute(LoggerHelper.REQUEST_LOG_ATTRIBUTE);
+        if (entry instanceof RequestLogEntry) {
+            request.removeAttribute(LoggerHelper.REQUEST_LOG_ATTRIBUTE);
+            int status = ex != null && response.getStatus() < 400 ? 500 : response.getStatus();
+            asyncRequestLogger.log(((RequestLogEntry) entry).completed(status, System.nanoTime()));
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package hu.futureofmedia.task.contactsapi.validation;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.i18n.phonenumbers.NumberParseException;
 import com.google.i18n.phonenumbers.PhoneNumberUtil;
 import com.google.i18n.phonenumbers.Phonenumber;
@@ -9,17 +11,55 @@ import javax.validation.ConstraintValidatorContext;
 
 public class PhoneValidator implements ConstraintValidator<PhoneNumber, String> {
 
+    private static final int MAX_E164_DIGITS = 15;
+
+    private static final int MEMO_SIZE = 10_000;
+
+    private static final PhoneNumberUtil PHONE_UTIL = PhoneNumberUtil.getInstance();
+
+    private static final Cache<String, Boolean> MEMO = Caffeine.newBuilder()
+            .maximumSize(MEMO_SIZE)
+            .recordStats()
+            .build();
+
     @Override
     public boolean isValid(String value, ConstraintValidatorContext context) {
         if(value == null || value.isEmpty()) {
             return true;
         }
-        PhoneNumberUtil phoneUtil = PhoneNumberUtil.getInstance();
+        if (!hasE164Shape(value)) {
+            return false;
+        }
+        return MEMO.get(value, PhoneValidator::isValidE164);
+    }
+
+    public static long getMemoHitCount() {
+        return MEMO.stats().hitCount();
+    }
+
+    public static long getMemoMissCount() {
+        return MEMO.stats().missCount();
+    }
+
+    static boolean hasE164Shape(String value) {
+        if (value.length() > MAX_E164_DIGITS || value.charAt(0) == '0') {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static boolean isValidE164(String digits) {
+        String phoneNumberWithPlus = '+' + digits;
         try {
-            String phoneNumberWithPlus = '+' + value;
-            Phonenumber.PhoneNumber phoneNumber = phoneUtil.parse(phoneNumberWithPlus,null);
-            return phoneUtil.isValidNumber(phoneNumber) &&
-                    phoneNumberWithPlus.equals(phoneUtil.format(phoneNumber, PhoneNumberUtil.PhoneNumberFormat.E164));
+            Phonenumber.PhoneNumber phoneNumber = PHONE_UTIL.parse(phoneNumberWithPlus, null);
+            return PHONE_UTIL.isValidNumber(phoneNumber) &&
+                    phoneNumberWithPlus.equals(PHONE_UTIL.format(phoneNumber, PhoneNumberUtil.PhoneNumberFormat.E164));
         } catch (NumberParseException ignored) {}
         return false;
     }
@@ -0,0 +1,3 @@
+create index idx_contact_active_name on contact (first_name, last_name, id);
+
+create index idx_contact_active_company on contact (company_id);
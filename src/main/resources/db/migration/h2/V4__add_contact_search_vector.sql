@@ -0,0 +1,4 @@
+alter table contact
+    add column search_text varchar as lower(first_name || ' ' || last_name || ' ' || email || ' ' || comment);
+
+create index idx_contact_active_search on contact (search_text);
@@ -0,0 +1 @@
+create index idx_contact_last_modified on contact (last_modified_date, id);
@@ -0,0 +1,11 @@
+drop index idx_contact_active_search;
+
+alter table contact drop column search_text;
+
+alter table contact add column search_first_name varchar as lower(first_name);
+alter table contact add column search_last_name varchar as lower(last_name);
+alter table contact add column search_email varchar as lower(email);
+
+create index idx_contact_search_first_name on contact (search_first_name);
+create index idx_contact_search_last_name on contact (search_last_name);
+create index idx_contact_search_email on contact (search_email);
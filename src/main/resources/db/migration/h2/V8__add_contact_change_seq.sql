@@ -0,0 +1,9 @@
+create sequence contact_change_seq;
+
+alter table contact add column change_seq bigint
+    default next value for contact_change_seq on update next value for contact_change_seq not null;
+alter table contact add column created_seq bigint default next value for contact_change_seq not null;
+
+drop index idx_contact_last_modified;
+
+create index idx_contact_change_seq on contact (change_seq, id);
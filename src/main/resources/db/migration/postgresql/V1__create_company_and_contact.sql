@@ -24,4 +24,4 @@ create table contact
     last_modified_date timestamp not null,
     constraint pk_contact primary key (id),
     foreign key (company_id) references company(id)
-);
\ No newline at end of file
+);
@@ -0,0 +1,3 @@
+create sequence contact_seq increment by 50;
+
+select setval('contact_seq', (select coalesce(max(id), 0) + 50 from contact), false);
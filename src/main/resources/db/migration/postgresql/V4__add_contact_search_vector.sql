@@ -0,0 +1,8 @@
+alter table contact
+    add column search_vector tsvector generated always as (
+        setweight(to_tsvector('simple', first_name || ' ' || last_name), 'A') ||
+        setweight(to_tsvector('simple', email || ' ' || translate(email, '@.', '  ')), 'B') ||
+        setweight(to_tsvector('simple', comment), 'C')
+    ) stored;
+
+create index idx_contact_active_search on contact using gin (search_vector) where status = 'ACTIVE';
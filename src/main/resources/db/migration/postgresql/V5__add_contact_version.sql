@@ -0,0 +1 @@
+alter table contact add column version bigint not null default 0;
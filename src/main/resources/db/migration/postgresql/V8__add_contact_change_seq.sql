@@ -0,0 +1,20 @@
+alter table contact
+    add column change_seq bigint not null default 0,
+    add column created_seq bigint not null default 0;
+
+create function contact_change_seq() returns trigger as $$
+begin
+    new.change_seq := txid_current();
+    if tg_op = 'INSERT' then
+        new.created_seq := new.change_seq;
+    end if;
+    return new;
+end;
+$$ language plpgsql;
+
+create trigger contact_change_seq before insert or update on contact
+    for each row execute function contact_change_seq();
+
+drop index idx_contact_last_modified;
+
+create index idx_contact_change_seq on contact (change_seq, id);
@@ -2,9 +2,16 @@ package hu.futureofmedia.task.contactsapi.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import hu.futureofmedia.task.contactsapi.dto.ContactBulkDeleteCommand;
+import hu.futureofmedia.task.contactsapi.dto.ContactCompanyReassignCommand;
 import hu.futureofmedia.task.contactsapi.dto.ContactCreateUpdateCommand;
 import hu.futureofmedia.task.contactsapi.dto.ContactInfo;
+import hu.futureofmedia.task.contactsapi.protobuf.ContactProtos;
+import hu.futureofmedia.task.contactsapi.utility.ContactProtobufHttpMessageConverter;
+import com.fasterxml.jackson.databind.JsonNode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -16,10 +23,13 @@ import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 
 import static org.hamcrest.Matchers.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -75,6 +85,34 @@ class ContactControllerIT {
                 .andExpect(jsonPath("$[0].errorMessage", equalTo("not found class Company entity with id 100")));
     }
 
+    @Test
+    void testCreateContacts_ValidAndInvalid_ValidOnesListed() throws Exception {
+        ContactCreateUpdateCommand invalidEmail = new ContactCreateUpdateCommand(
+                "Jim", "Doe", "jim.doe", null, 1L, "");
+        ContactCreateUpdateCommand unknownCompany = new ContactCreateUpdateCommand(
+                "Joe", "Doe", "joe.doe@gmail.com", null, 100L, "");
+
+        mockMvc.perform(post(contactBaseUrl + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(List.of(johnDoeCreate, invalidEmail, janeDoeCreate, unknownCompany, jackDoeCreate))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created", is(3)))
+                .andExpect(jsonPath("$.rejected", is(2)))
+                .andExpect(jsonPath("$.items[0].id", notNullValue()))
+                .andExpect(jsonPath("$.items[1].id", nullValue()))
+                .andExpect(jsonPath("$.items[1].errors[0].field", equalTo("email")))
+                .andExpect(jsonPath("$.items[3].errors[0].errorMessage", equalTo("not found class Company entity with id 100")))
+                .andExpect(jsonPath("$.items[4].index", is(4)));
+
+        mockMvc.perform(get(contactBaseUrl))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(3)))
+                .andExpect(jsonPath("$.content[0].fullName", equalTo("Jack Doe")))
+                .andExpect(jsonPath("$.content[0].companyName", equalTo("Company #2")))
+                .andExpect(jsonPath("$.content[1].fullName", equalTo("Jane Doe")))
+                .andExpect(jsonPath("$.content[2].fullName", equalTo("John Doe")));
+    }
+
     @Test
     void testGetAllContacts_emptyRepo() throws Exception {
         mockMvc.perform(get(contactBaseUrl))
@@ -134,6 +172,43 @@ class ContactControllerIT {
                 .andExpect(jsonPath("$.content[2].fullName", equalTo("John13 Doe")));
     }
 
+    @Test
+    void testGetAllContactsAsSlice_SavedThirteenNumberedJohnDoe_NoTotals() throws Exception {
+        for(int i = 1; i <= 13; i++) {
+            johnDoeCreate.setFirstName(String.format("John%02d", i));
+            createContact(johnDoeCreate);
+        }
+
+        mockMvc.perform(get(contactBaseUrl + "?paging=slice"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.number", is(0)))
+                .andExpect(jsonPath("$.last", is(false)))
+                .andExpect(jsonPath("$.totalElements").doesNotExist())
+                .andExpect(jsonPath("$.content", hasSize(10)))
+                .andExpect(jsonPath("$.content[0].fullName", equalTo("John01 Doe")));
+
+        mockMvc.perform(get(contactBaseUrl + "?paging=slice&page=1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.last", is(true)))
+                .andExpect(jsonPath("$.content", hasSize(3)))
+                .andExpect(jsonPath("$.content[2].fullName", equalTo("John13 Doe")));
+    }
+
+    @Test
+    void testGetAllContactsWithEstimatedTotal_SavedThirteenNumberedJohnDoe_TotalsReturned() throws Exception {
+        for(int i = 1; i <= 13; i++) {
+            johnDoeCreate.setFirstName(String.format("John%02d", i));
+            createContact(johnDoeCreate);
+        }
+
+        mockMvc.perform(get(contactBaseUrl + "?paging=estimated&page=1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.number", is(1)))
+                .andExpect(jsonPath("$.totalElements", is(13)))
+                .andExpect(jsonPath("$.totalPages", is(2)))
+                .andExpect(jsonPath("$.content", hasSize(3)));
+    }
+
     @Test
     void testGetAllContacts_NegativePage() throws Exception {
         mockMvc.perform(get(contactBaseUrl + "?page=-1"))
@@ -142,6 +217,194 @@ class ContactControllerIT {
                 .andExpect(jsonPath("$[0].errorMessage", equalTo("Page index must not be less than zero!")));
     }
 
+    @Test
+    void testGetAllContactsByCursor_SavedThirteenNumberedJohnDoe_WalkForwardAndBack() throws Exception {
+        for(int i = 13; i >= 1; i--) {
+            johnDoeCreate.setFirstName(String.format("John%02d", i));
+            createContact(johnDoeCreate);
+        }
+
+        MvcResult firstPage = mockMvc.perform(get(contactBaseUrl + "?cursor="))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Link", containsString("rel=\"next\"")))
+                .andExpect(header().string("Link", not(containsString("rel=\"prev\""))))
+                .andExpect(jsonPath("$.size", is(10)))
+                .andExpect(jsonPath("$.previous", nullValue()))
+                .andExpect(jsonPath("$.content", hasSize(10)))
+                .andExpect(jsonPath("$.content[0].fullName", equalTo("John01 Doe")))
+                .andExpect(jsonPath("$.content[9].fullName", equalTo("John10 Doe")))
+                .andExpect(jsonPath("$.content[0].firstName").doesNotExist())
+                .andReturn();
+
+        MvcResult secondPage = mockMvc.perform(get(contactBaseUrl).param("cursor", getJson(firstPage).get("next").asText()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Link", containsString("rel=\"prev\"")))
+                .andExpect(jsonPath("$.next", nullValue()))
+                .andExpect(jsonPath("$.content", hasSize(3)))
+                .andExpect(jsonPath("$.content[0].fullName", equalTo("John11 Doe")))
+                .andExpect(jsonPath("$.content[2].fullName", equalTo("John13 Doe")))
+                .andReturn();
+
+        mockMvc.perform(get(contactBaseUrl).param("cursor", getJson(secondPage).get("previous").asText()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.previous", nullValue()))
+                .andExpect(jsonPath("$.content", hasSize(10)))
+                .andExpect(jsonPath("$.content[0].fullName", equalTo("John01 Doe")))
+                .andExpect(jsonPath("$.content[9].fullName", equalTo("John10 Doe")));
+    }
+
+    @Test
+    void testGetAllContactsByCursor_InvalidCursor() throws Exception {
+        mockMvc.perform(get(contactBaseUrl + "?cursor=invalid"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$[0].field", nullValue()))
+                .andExpect(jsonPath("$[0].errorMessage", equalTo("Invalid cursor!")));
+    }
+
+    @Test
+    void testSearchContacts_ByNameAndEmailPrefix_MatchingContactsReturned() throws Exception {
+        createContact(johnDoeCreate);
+        createContact(janeDoeCreate);
+        createContact(jackDoeCreate);
+
+        mockMvc.perform(get(contactBaseUrl + "/search?q=doe"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(3)))
+                .andExpect(jsonPath("$.last", equalTo(true)));
+
+        mockMvc.perform(get(contactBaseUrl + "/search?q=JANE Doe"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].fullName", equalTo("Jane Doe")))
+                .andExpect(jsonPath("$.content[0].companyName", equalTo("Company #2")));
+
+        mockMvc.perform(get(contactBaseUrl + "/search?q=jack.doe@gmail.com"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].fullName", contains("Jack Doe")));
+
+        mockMvc.perform(get(contactBaseUrl + "/search?q=ja"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].fullName", contains("Jack Doe", "Jane Doe")));
+
+        mockMvc.perform(get(contactBaseUrl + "/search?q=50%25_off"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(0)));
+    }
+
+    @Test
+    void testSearchContacts_SavedThirteenNumberedJohnDoe_SecondPageHasRest() throws Exception {
+        for (int i = 1; i <= 13; i++) {
+            johnDoeCreate.setFirstName(String.format("John%02d", i));
+            createContact(johnDoeCreate);
+        }
+
+        mockMvc.perform(get(contactBaseUrl + "/search?q=john&page=1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(3)))
+                .andExpect(jsonPath("$.first", equalTo(false)))
+                .andExpect(jsonPath("$.last", equalTo(true)));
+    }
+
+    @Test
+    void testSearchContacts_NoWordInQuery_BadRequest() throws Exception {
+        mockMvc.perform(get(contactBaseUrl + "/search?q=!!"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$[0].errorMessage", equalTo("Search query must contain at least one word!")));
+    }
+
+    @Test
+    void testExportContacts_Ndjson_OneLinePerContactOrderedById() throws Exception {
+        ContactInfo johnDoeInfo = createContact(johnDoeCreate);
+        ContactInfo janeDoeInfo = createContact(janeDoeCreate);
+
+        MvcResult mvcResult = mockMvc.perform(get(contactBaseUrl + "/export"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", startsWith("application/x-ndjson")))
+                .andReturn();
+
+        String[] lines = mvcResult.getResponse().getContentAsString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        ContactInfo firstLine = objectMapper.readValue(lines[0], ContactInfo.class);
+        assertEquals(johnDoeInfo.getId(), firstLine.getId());
+        assertEquals("John", firstLine.getFirstName());
+        assertEquals("Company #1", firstLine.getCompanyName());
+        ContactInfo secondLine = objectMapper.readValue(lines[1], ContactInfo.class);
+        assertEquals(janeDoeInfo.getId(), secondLine.getId());
+        assertEquals("Jane Doe comment", secondLine.getComment());
+    }
+
+    @Test
+    void testExportContacts_Csv_HeaderAndOneLinePerContact() throws Exception {
+        createContact(johnDoeCreate);
+        createContact(janeDoeCreate);
+
+        MvcResult mvcResult = mockMvc.perform(get(contactBaseUrl + "/export?format=csv"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", startsWith("text/csv")))
+                .andReturn();
+
+        String[] lines = mvcResult.getResponse().getContentAsString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, lines.length);
+        assertEquals("id,firstName,lastName,email,phoneNumber,companyName,comment,createdDate,lastUpdatedDate", lines[0]);
+        assertTrue(lines[1].contains(",John,Doe,john.doe@gmail.com,36201234567,"));
+        assertTrue(lines[1].contains("John Doe comment"));
+        assertTrue(lines[2].contains(",Jane,Doe,jane.doe@gmail.com,,"));
+        assertTrue(lines[2].contains("Company #2"));
+    }
+
+    @Test
+    void testImportContacts_Ndjson_ResultLinePerRow() throws Exception {
+        String body = objectMapper.writeValueAsString(johnDoeCreate) + "\n" +
+                "{\"firstName\":\"Jim\",\"lastName\":\"Doe\",\"email\":\"jim.doe\",\"companyId\":1,\"comment\":\"\"}\n" +
+                "{\"firstName\":\"Joe\",\"lastName\":\"Doe\",\"email\":\"joe.doe@gmail.com\",\"companyId\":\"one\",\"comment\":\"\"}\n" +
+                objectMapper.writeValueAsString(janeDoeCreate) + "\n" +
+                objectMapper.writeValueAsString(jackDoeCreate) + "\n";
+
+        MvcResult mvcResult = mockMvc.perform(post(contactBaseUrl + "/import")
+                        .contentType("application/x-ndjson")
+                        .content(body))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        String[] lines = mvcResult.getResponse().getContentAsString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(5, lines.length);
+        for (int i = 0; i < lines.length; i++) {
+            assertEquals(i, objectMapper.readTree(lines[i]).get("index").asInt());
+        }
+        assertFalse(objectMapper.readTree(lines[0]).get("id").isNull());
+        assertEquals("email", objectMapper.readTree(lines[1]).get("errors").get(0).get("field").asText());
+        assertTrue(objectMapper.readTree(lines[2]).get("id").isNull());
+        assertFalse(objectMapper.readTree(lines[3]).get("id").isNull());
+        assertFalse(objectMapper.readTree(lines[4]).get("id").isNull());
+
+        mockMvc.perform(get(contactBaseUrl))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(3)));
+    }
+
+    @Test
+    void testImportContacts_Csv_EmptyPhoneNumberImportedAsMissing() throws Exception {
+        String body = "firstName,lastName,email,phoneNumber,companyId,comment\n" +
+                "John,Doe,john.doe@gmail.com,36201234567,1,John Doe comment\n" +
+                "Jane,Doe,jane.doe@gmail.com,,2,\"Jane, the second\"\n";
+
+        MvcResult mvcResult = mockMvc.perform(post(contactBaseUrl + "/import")
+                        .contentType("text/csv")
+                        .content(body))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        String[] lines = mvcResult.getResponse().getContentAsString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        long janeId = objectMapper.readTree(lines[1]).get("id").asLong();
+
+        mockMvc.perform(get(contactBaseUrl + "/" + janeId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.phoneNumber", nullValue()))
+                .andExpect(jsonPath("$.comment", equalTo("Jane, the second")))
+                .andExpect(jsonPath("$.companyName", equalTo("Company #2")));
+    }
+
     @Test
     void testGetContact_GetJaneDoeById() throws Exception {
         ContactInfo janeDoeInfo = createContact(janeDoeCreate);
@@ -162,6 +425,53 @@ class ContactControllerIT {
         assertTrue(janeDoeInfo.getCreatedDate().isEqual(janeDoeInfo.getLastUpdatedDate()));
     }
 
+    @Test
+    void testGetContact_ConditionalRequests_NotModifiedUntilUpdated() throws Exception {
+        ContactInfo janeDoe = createContact(janeDoeCreate);
+        MvcResult first = mockMvc.perform(get(contactBaseUrl + "/" + janeDoe.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(header().exists("Last-Modified"))
+                .andReturn();
+        String eTag = first.getResponse().getHeader("ETag");
+        String lastModified = first.getResponse().getHeader("Last-Modified");
+
+        mockMvc.perform(get(contactBaseUrl + "/" + janeDoe.getId()).header("If-None-Match", eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        mockMvc.perform(get(contactBaseUrl + "/" + janeDoe.getId()).header("If-Modified-Since", lastModified))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(put(contactBaseUrl + "/" + janeDoe.getId())
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(jillDoeUpdate)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get(contactBaseUrl + "/" + janeDoe.getId()).header("If-None-Match", eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(eTag)))
+                .andExpect(jsonPath("$.firstName", equalTo("Jill")));
+    }
+
+    @Test
+    void testGetAllContacts_ListETag_NotModifiedUntilAnyWrite() throws Exception {
+        createContact(johnDoeCreate);
+        String eTag = mockMvc.perform(get(contactBaseUrl))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        assertTrue(eTag.startsWith("W/"));
+
+        mockMvc.perform(get(contactBaseUrl + "?paging=slice").header("If-None-Match", eTag))
+                .andExpect(status().isNotModified());
+
+        createContact(janeDoeCreate);
+
+        mockMvc.perform(get(contactBaseUrl).header("If-None-Match", eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(2)));
+    }
+
     @Test
     void testGetContact_IdNotExistsOrAlreadyDeleted_IdNotFoundException() throws Exception {
         mockMvc.perform(get(contactBaseUrl + "/1"))
@@ -170,6 +480,117 @@ class ContactControllerIT {
                 .andExpect(jsonPath("$[0].errorMessage", equalTo("not found class Contact entity with id 1")));
     }
 
+    @Test
+    void testGetContact_Cbor_SameContactAsJson() throws Exception {
+        ContactInfo janeDoe = createContact(janeDoeCreate);
+        ContactInfo json = getContactInfo(mockMvc.perform(get(contactBaseUrl + "/" + janeDoe.getId()))
+                .andExpect(status().isOk())
+                .andReturn());
+
+        MvcResult mvcResult = mockMvc.perform(get(contactBaseUrl + "/" + janeDoe.getId()).accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andExpect(header().string("Vary", containsString("Accept")))
+                .andReturn();
+
+        ObjectMapper cborMapper = new ObjectMapper(new CBORFactory()).registerModule(new JavaTimeModule());
+        assertEquals(json, cborMapper.readValue(mvcResult.getResponse().getContentAsByteArray(), ContactInfo.class));
+    }
+
+    @Test
+    void testGetContact_JsonETagForCbor_CborServedWithOwnETag() throws Exception {
+        ContactInfo janeDoe = createContact(janeDoeCreate);
+        String jsonETag = mockMvc.perform(get(contactBaseUrl + "/" + janeDoe.getId()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        String cborETag = mockMvc.perform(get(contactBaseUrl + "/" + janeDoe.getId())
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .header("If-None-Match", jsonETag))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getHeader("ETag");
+        assertNotEquals(jsonETag, cborETag);
+
+        mockMvc.perform(get(contactBaseUrl + "/" + janeDoe.getId())
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .header("If-None-Match", cborETag))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(put(contactBaseUrl + "/" + janeDoe.getId())
+                        .header("If-Match", cborETag)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(jillDoeUpdate)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(jsonETag)));
+    }
+
+    @Test
+    void testGetAllContacts_Smile_PageDecoded() throws Exception {
+        createContact(johnDoeCreate);
+        createContact(janeDoeCreate);
+
+        MvcResult mvcResult = mockMvc.perform(get(contactBaseUrl).accept(ContactController.APPLICATION_SMILE_VALUE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(ContactController.APPLICATION_SMILE_VALUE))
+                .andReturn();
+
+        JsonNode page = new ObjectMapper(new SmileFactory()).readTree(mvcResult.getResponse().getContentAsByteArray());
+        assertEquals(2, page.get("content").size());
+        assertEquals("Jane Doe", page.get("content").get(0).get("fullName").asText());
+        assertEquals(2, page.get("totalElements").asInt());
+    }
+
+    @Test
+    void testGetAllContacts_Protobuf_PageDecoded() throws Exception {
+        createContact(johnDoeCreate);
+        createContact(janeDoeCreate);
+
+        MvcResult mvcResult = mockMvc.perform(get(contactBaseUrl).accept(ContactProtobufHttpMessageConverter.APPLICATION_PROTOBUF))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(ContactProtobufHttpMessageConverter.APPLICATION_PROTOBUF))
+                .andReturn();
+
+        ContactProtos.ContactMinInfoPage page = ContactProtos.ContactMinInfoPage.parseFrom(mvcResult.getResponse().getContentAsByteArray());
+        assertEquals(2, page.getContentCount());
+        assertEquals(2, page.getTotalElements());
+        assertTrue(page.getFirst());
+        assertEquals("Jane Doe", page.getContent(0).getFullName());
+        assertFalse(page.getContent(0).hasPhoneNumber());
+        assertEquals("36201234567", page.getContent(1).getPhoneNumber());
+    }
+
+    @Test
+    void testGetAllContactsAsSlice_Protobuf_NoTotals() throws Exception {
+        createContact(johnDoeCreate);
+
+        MvcResult mvcResult = mockMvc.perform(get(contactBaseUrl).param("paging", "slice").accept(ContactProtobufHttpMessageConverter.APPLICATION_PROTOBUF))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        ContactProtos.ContactMinInfoPage page = ContactProtos.ContactMinInfoPage.parseFrom(mvcResult.getResponse().getContentAsByteArray());
+        assertEquals(1, page.getContentCount());
+        assertFalse(page.hasTotalElements());
+    }
+
+    @Test
+    void testGetContact_Protobuf_IdNotExists_ErrorMessagesReturned() throws Exception {
+        MvcResult mvcResult = mockMvc.perform(get(contactBaseUrl + "/1").accept(ContactProtobufHttpMessageConverter.APPLICATION_PROTOBUF))
+                .andExpect(status().isNotFound())
+                .andReturn();
+
+        ContactProtos.ErrorMessages errors = ContactProtos.ErrorMessages.parseFrom(mvcResult.getResponse().getContentAsByteArray());
+        assertEquals(1, errors.getErrorsCount());
+        assertFalse(errors.getErrors(0).hasField());
+        assertEquals("not found class Contact entity with id 1", errors.getErrors(0).getErrorMessage());
+    }
+
+    @Test
+    void testGetChanges_Protobuf_NotAcceptable() throws Exception {
+        mockMvc.perform(get(contactBaseUrl + "/changes").accept(ContactProtobufHttpMessageConverter.APPLICATION_PROTOBUF))
+                .andExpect(status().isNotAcceptable());
+    }
+
     @Test
     void testUpdateContact_SavedJaneUpdateToJill() throws Exception {
         ContactInfo janeDoeInfo = createContact(janeDoeCreate);
@@ -221,6 +642,259 @@ class ContactControllerIT {
                 .andExpect(jsonPath("$[0].errorMessage", equalTo("not found class Contact entity with id 1")));
     }
 
+    @Test
+    void testUpdateContact_IfMatchCurrentETag_UpdatedWithNewETag() throws Exception {
+        ContactInfo janeDoeInfo = createContact(janeDoeCreate);
+        String eTag = mockMvc.perform(get(contactBaseUrl + "/" + janeDoeInfo.getId()))
+                .andReturn().getResponse().getHeader("ETag");
+
+        String newETag = mockMvc.perform(put(contactBaseUrl + "/" + janeDoeInfo.getId())
+                        .header("If-Match", eTag)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(jillDoeUpdate)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.firstName", equalTo("Jill")))
+                .andReturn().getResponse().getHeader("ETag");
+
+        assertNotEquals(eTag, newETag);
+        mockMvc.perform(get(contactBaseUrl + "/" + janeDoeInfo.getId()))
+                .andExpect(header().string("ETag", newETag));
+    }
+
+    @Test
+    void testUpdateContact_IfMatchStaleETag_PreconditionFailed() throws Exception {
+        ContactInfo janeDoeInfo = createContact(janeDoeCreate);
+        String eTag = mockMvc.perform(get(contactBaseUrl + "/" + janeDoeInfo.getId()))
+                .andReturn().getResponse().getHeader("ETag");
+        mockMvc.perform(patch(contactBaseUrl + "/" + janeDoeInfo.getId())
+                        .header("If-Match", eTag)
+                        .contentType("application/merge-patch+json")
+                        .content("{\"comment\": \"First writer\"}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(put(contactBaseUrl + "/" + janeDoeInfo.getId())
+                        .header("If-Match", eTag)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(jillDoeUpdate)))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$[0].errorMessage", equalTo("class Contact entity with id " + janeDoeInfo.getId() + " has version 1")));
+
+        mockMvc.perform(get(contactBaseUrl + "/" + janeDoeInfo.getId()))
+                .andExpect(jsonPath("$.firstName", equalTo("Jane")))
+                .andExpect(jsonPath("$.comment", equalTo("First writer")));
+    }
+
+    @Test
+    void testUpdateContact_IfMatchNotAStrongETag_BadRequest() throws Exception {
+        ContactInfo janeDoeInfo = createContact(janeDoeCreate);
+
+        mockMvc.perform(put(contactBaseUrl + "/" + janeDoeInfo.getId())
+                        .header("If-Match", "W/\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(jillDoeUpdate)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$[0].errorMessage", equalTo("If-Match must be a single strong ETag of the contact!")));
+    }
+
+    @Test
+    void testDeleteContact_IfMatchStaleETag_PreconditionFailed() throws Exception {
+        ContactInfo janeDoeInfo = createContact(janeDoeCreate);
+        mockMvc.perform(put(contactBaseUrl + "/" + janeDoeInfo.getId())
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(jillDoeUpdate)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(delete(contactBaseUrl + "/" + janeDoeInfo.getId()).header("If-Match", "\"0\""))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(get(contactBaseUrl + "/" + janeDoeInfo.getId()))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void testPatchContact_PhoneNumberChanged_OtherFieldsKept() throws Exception {
+        ContactInfo johnDoe = createContact(johnDoeCreate);
+
+        MvcResult mvcResult = mockMvc.perform(patch(contactBaseUrl + "/" + johnDoe.getId())
+                        .contentType("application/merge-patch+json")
+                        .content("{\"phoneNumber\": \"36207654321\"}"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        ContactInfo patched = getContactInfo(mvcResult);
+        assertEquals("36207654321", patched.getPhoneNumber());
+        assertEquals("John", patched.getFirstName());
+        assertEquals("john.doe@gmail.com", patched.getEmail());
+        assertEquals("Company #1", patched.getCompanyName());
+        assertEquals("John Doe comment", patched.getComment());
+        assertTrue(patched.getLastUpdatedDate().isAfter(johnDoe.getCreatedDate()));
+    }
+
+    @Test
+    void testPatchContact_NullRemovesPhoneNumberAndCompanyChanged() throws Exception {
+        ContactInfo johnDoe = createContact(johnDoeCreate);
+
+        mockMvc.perform(patch(contactBaseUrl + "/" + johnDoe.getId())
+                        .contentType("application/merge-patch+json")
+                        .content("{\"phoneNumber\": null, \"companyId\": 3}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.phoneNumber", nullValue()))
+                .andExpect(jsonPath("$.companyName", equalTo("Company #3")));
+    }
+
+    @Test
+    void testPatchContact_InvalidEmail_OnlyPatchedFieldReported() throws Exception {
+        ContactInfo johnDoe = createContact(johnDoeCreate);
+
+        mockMvc.perform(patch(contactBaseUrl + "/" + johnDoe.getId())
+                        .contentType("application/merge-patch+json")
+                        .content("{\"email\": \"john.doe\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].field", equalTo("email")));
+    }
+
+    @Test
+    void testPatchContact_UnknownField_BadRequest() throws Exception {
+        ContactInfo johnDoe = createContact(johnDoeCreate);
+
+        mockMvc.perform(patch(contactBaseUrl + "/" + johnDoe.getId())
+                        .contentType("application/merge-patch+json")
+                        .content("{\"status\": \"DELETED\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$[0].errorMessage", equalTo("Unknown field: status!")));
+    }
+
+    @Test
+    void testDeleteContacts_ByIds_OnlyGivenExistingOnesDeleted() throws Exception {
+        ContactInfo johnDoe = createContact(johnDoeCreate);
+        ContactInfo janeDoe = createContact(janeDoeCreate);
+        createContact(jackDoeCreate);
+
+        mockMvc.perform(post(contactBaseUrl + "/bulk-delete")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(new ContactBulkDeleteCommand(List.of(johnDoe.getId(), janeDoe.getId(), 999L), null))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affected", is(2)));
+
+        mockMvc.perform(get(contactBaseUrl))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].fullName", equalTo("Jack Doe")));
+        mockMvc.perform(get(contactBaseUrl + "/" + johnDoe.getId()))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testDeleteContacts_ByCompany_AllContactsOfCompanyDeleted() throws Exception {
+        createContact(johnDoeCreate);
+        createContact(janeDoeCreate);
+        createContact(jackDoeCreate);
+
+        mockMvc.perform(post(contactBaseUrl + "/bulk-delete")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(new ContactBulkDeleteCommand(null, 2L))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affected", is(2)));
+
+        mockMvc.perform(get(contactBaseUrl))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].fullName", equalTo("John Doe")));
+    }
+
+    @Test
+    void testDeleteContacts_IdsAndCompanyGiven_BadRequest() throws Exception {
+        mockMvc.perform(post(contactBaseUrl + "/bulk-delete")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(new ContactBulkDeleteCommand(List.of(1L), 1L))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$[0].errorMessage", equalTo("Exactly one of ids and companyId must be given!")));
+    }
+
+    @Test
+    void testReassignCompany_ContactsMovedAndModificationDateUpdated() throws Exception {
+        createContact(johnDoeCreate);
+        ContactInfo janeDoe = createContact(janeDoeCreate);
+        createContact(jackDoeCreate);
+        mockMvc.perform(get(contactBaseUrl + "/" + janeDoe.getId()))
+                .andExpect(jsonPath("$.companyName", equalTo("Company #2")));
+
+        mockMvc.perform(post(contactBaseUrl + "/reassign-company")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(new ContactCompanyReassignCommand(2L, 3L))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affected", is(2)));
+
+        ContactInfo moved = getContactInfo(mockMvc.perform(get(contactBaseUrl + "/" + janeDoe.getId()))
+                .andExpect(status().isOk())
+                .andReturn());
+        assertEquals("Company #3", moved.getCompanyName());
+        assertFalse(moved.getLastUpdatedDate().isBefore(janeDoe.getLastUpdatedDate()));
+        mockMvc.perform(get(contactBaseUrl))
+                .andExpect(jsonPath("$.content[0].fullName", equalTo("Jack Doe")))
+                .andExpect(jsonPath("$.content[0].companyName", equalTo("Company #3")))
+                .andExpect(jsonPath("$.content[2].fullName", equalTo("John Doe")))
+                .andExpect(jsonPath("$.content[2].companyName", equalTo("Company #1")));
+    }
+
+    @Test
+    void testReassignCompany_TargetCompanyNotExists_IdNotFoundException() throws Exception {
+        mockMvc.perform(post(contactBaseUrl + "/reassign-company")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(new ContactCompanyReassignCommand(1L, 100L))))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$[0].errorMessage", equalTo("not found class Company entity with id 100")));
+    }
+
+    @Test
+    void testGetChanges_CreatedUpdatedAndDeletedSinceCursor() throws Exception {
+        String cursor = drainChanges("");
+        ContactInfo johnDoe = createContact(johnDoeCreate);
+        ContactInfo janeDoe = createContact(janeDoeCreate);
+        ContactInfo jackDoe = createContact(jackDoeCreate);
+        mockMvc.perform(put(contactBaseUrl + "/" + janeDoe.getId())
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(jillDoeUpdate)))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete(contactBaseUrl + "/" + jackDoe.getId()))
+                .andExpect(status().isOk());
+
+        JsonNode page = getJson(mockMvc.perform(get(contactBaseUrl + "/changes").param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andReturn());
+
+        JsonNode changes = page.get("changes");
+        assertEquals(3, changes.size());
+        assertFalse(page.get("hasMore").asBoolean());
+        for (JsonNode change : changes) {
+            long id = change.get("id").asLong();
+            if (id == johnDoe.getId()) {
+                assertEquals("CREATED", change.get("type").asText());
+                assertEquals("John", change.get("contact").get("firstName").asText());
+            } else if (id == janeDoe.getId()) {
+                assertEquals("CREATED", change.get("type").asText());
+                assertEquals("Jill", change.get("contact").get("firstName").asText());
+            } else {
+                assertEquals(jackDoe.getId(), id);
+                assertEquals("DELETED", change.get("type").asText());
+                assertTrue(change.get("contact").isNull());
+            }
+        }
+
+        mockMvc.perform(get(contactBaseUrl + "/changes").param("cursor", page.get("next").asText()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes", hasSize(0)))
+                .andExpect(jsonPath("$.next", equalTo(page.get("next").asText())));
+    }
+
+    @Test
+    void testGetChanges_InvalidCursor_BadRequest() throws Exception {
+        mockMvc.perform(get(contactBaseUrl + "/changes").param("cursor", "invalid"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$[0].errorMessage", equalTo("Invalid cursor!")));
+    }
+
     private void initObjectMapper() {
         objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule());
@@ -250,6 +924,21 @@ class ContactControllerIT {
         return getContactInfo(mvcResult);
     }
 
+    private String drainChanges(String cursor) throws Exception {
+        JsonNode page;
+        do {
+            page = getJson(mockMvc.perform(get(contactBaseUrl + "/changes").param("cursor", cursor))
+                    .andExpect(status().isOk())
+                    .andReturn());
+            cursor = page.get("next").isNull() ? "" : page.get("next").asText();
+        } while (page.get("hasMore").asBoolean());
+        return cursor;
+    }
+
+    private JsonNode getJson(MvcResult mvcResult) throws Exception {
+        return objectMapper.readTree(mvcResult.getResponse().getContentAsString(StandardCharsets.UTF_8));
+    }
+
     private ContactInfo getContactInfo(MvcResult mvcResult) throws Exception {
         String responseContent = mvcResult.getResponse().getContentAsString(StandardCharsets.UTF_8);
         return objectMapper.readValue(responseContent, ContactInfo.class);
@@ -5,8 +5,16 @@ import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import hu.futureofmedia.task.contactsapi.dto.ContactCreateUpdateCommand;
 import hu.futureofmedia.task.contactsapi.dto.ContactInfo;
+import hu.futureofmedia.task.contactsapi.dto.ContactSuggestion;
+import hu.futureofmedia.task.contactsapi.dto.ContactVersion;
 import hu.futureofmedia.task.contactsapi.exception.ErrorMessage;
+import hu.futureofmedia.task.contactsapi.service.ContactChangeService;
+import hu.futureofmedia.task.contactsapi.service.ContactEventBroadcaster;
+import hu.futureofmedia.task.contactsapi.service.ContactExportService;
+import hu.futureofmedia.task.contactsapi.service.ContactImportService;
+import hu.futureofmedia.task.contactsapi.service.ContactResponseCache;
 import hu.futureofmedia.task.contactsapi.service.ContactService;
+import hu.futureofmedia.task.contactsapi.service.ContactSuggestionService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -45,6 +53,24 @@ class ContactControllerTest {
     @MockBean
     ContactService contactService;
 
+    @MockBean
+    ContactExportService contactExportService;
+
+    @MockBean
+    ContactImportService contactImportService;
+
+    @MockBean
+    ContactSuggestionService contactSuggestionService;
+
+    @MockBean
+    ContactResponseCache contactResponseCache;
+
+    @MockBean
+    ContactChangeService contactChangeService;
+
+    @MockBean
+    ContactEventBroadcaster contactEventBroadcaster;
+
     ObjectMapper objectMapper;
 
     ContactCreateUpdateCommand johnDoeCreateCommand;
@@ -248,6 +274,62 @@ class ContactControllerTest {
                         "Failed to convert value of type 'java.lang.String' to required type 'java.lang.Long'; nested exception is java.lang.NumberFormatException: For input string: \"notNumber\"")));
     }
 
+    @Test
+    void testExportContacts_UnsupportedFormat() throws Exception {
+        mockMvc.perform(get(contactBaseUrl + "/export?format=xml"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$[0].field", nullValue()))
+                .andExpect(jsonPath("$[0].errorMessage", equalTo("Unsupported format: xml")));
+
+        Mockito.verifyNoInteractions(contactExportService);
+    }
+
+    @Test
+    void testGetContact_ServedFromResponseCache() throws Exception {
+        byte[] serialized = objectMapper.writeValueAsBytes(johnDoeInfo);
+        when(contactService.getContactVersion(1L)).thenReturn(new ContactVersion(0L, johnDoeInfo.getLastUpdatedDate()));
+        when(contactResponseCache.getContact(eq(1L), eq(0L), any())).thenReturn(serialized);
+
+        mockMvc.perform(get(contactBaseUrl + "/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(header().exists("Last-Modified"))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().bytes(serialized));
+
+        verify(contactService).getContactVersion(1L);
+        verify(contactResponseCache).getContact(eq(1L), eq(0L), any());
+        verifyNoMoreInteractions(contactService);
+    }
+
+    @Test
+    void testGetContact_ETagMatches_NotModifiedWithoutLoadingContact() throws Exception {
+        when(contactService.getContactVersion(1L)).thenReturn(new ContactVersion(0L, johnDoeInfo.getLastUpdatedDate()));
+        String eTag = mockMvc.perform(get(contactBaseUrl + "/1"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get(contactBaseUrl + "/1").header("If-None-Match", eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", eTag))
+                .andExpect(content().string(""));
+
+        verify(contactResponseCache, times(1)).getContact(eq(1L), eq(0L), any());
+    }
+
+    @Test
+    void testSuggestContacts_ServedFromSuggestionIndex() throws Exception {
+        when(contactSuggestionService.suggestContacts("doe j")).thenReturn(List.of(new ContactSuggestion(1L, "John", "Doe")));
+
+        mockMvc.perform(get(contactBaseUrl + "/suggest").param("q", "doe j"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id", equalTo(1)))
+                .andExpect(jsonPath("$[0].fullName", equalTo("John Doe")))
+                .andExpect(jsonPath("$[0].firstName").doesNotExist());
+
+        verify(contactSuggestionService).suggestContacts("doe j");
+        verifyNoInteractions(contactService);
+    }
+
     private static Stream<Arguments> getInvalidFirstNameData() {
         ErrorMessage firstNameIsBlank = new ErrorMessage("firstName", "must not be blank");
         return Stream.of(
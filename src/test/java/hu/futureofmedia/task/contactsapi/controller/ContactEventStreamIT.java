@@ -0,0 +1,136 @@
+package hu.futureofmedia.task.contactsapi.controller;
+
+import hu.futureofmedia.task.contactsapi.dto.ContactCreateUpdateCommand;
+import hu.futureofmedia.task.contactsapi.dto.ContactInfo;
+import hu.futureofmedia.task.contactsapi.service.ContactService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+@SpringBootTest(properties = {
+        "contact.events.replay-size=8",
+        "contact.events.subscriber-buffer-size=2"})
+@AutoConfigureMockMvc
+class ContactEventStreamIT {
+
+    private static final Pattern EVENT_ID = Pattern.compile("id:(\\S+)\\nevent:contact\\ndata:\\{[^\\n]*\"firstName\":\"(\\w+)\"");
+
+    private final String eventsUrl = "/api/v1/contacts/events";
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ContactService contactService;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    List<Long> saved = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        saved.forEach(contactService::deleteContact);
+        saved.clear();
+    }
+
+    @Test
+    void testStreamChanges_CommittedChangesPushedRolledBackNot() throws Exception {
+        MvcResult stream = subscribe(null);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            contactService.createContact(command("Ronald"));
+            status.setRollbackOnly();
+        });
+        create("Carla");
+
+        String content = awaitContent(stream, "Carla");
+        assertTrue(content.contains("\"type\":\"CREATED\""));
+        assertFalse(content.contains("Ronald"));
+    }
+
+    @Test
+    void testStreamChanges_LastEventId_MissedEventsReplayed() throws Exception {
+        MvcResult first = subscribe(null);
+        create("Anna");
+        String anna = eventId(awaitContent(first, "Anna"), "Anna");
+        create("Bella");
+
+        String replayed = awaitContent(subscribe(anna), "Bella");
+
+        assertFalse(replayed.contains("Anna"));
+        assertFalse(replayed.contains("event:resync"));
+    }
+
+    @Test
+    void testStreamChanges_UnknownLastEventId_Resync() throws Exception {
+        awaitContent(subscribe("previous-run-42"), "event:resync");
+    }
+
+    @Test
+    void testStreamChanges_MoreMissedEventsThanBuffer_Resync() throws Exception {
+        MvcResult first = subscribe(null);
+        create("Dora");
+        String dora = eventId(awaitContent(first, "Dora"), "Dora");
+        create("Emma");
+        create("Fiona");
+        create("Greta");
+
+        String replayed = awaitContent(subscribe(dora), "event:resync");
+
+        assertFalse(replayed.contains("Emma"));
+    }
+
+    private MvcResult subscribe(String lastEventId) throws Exception {
+        return mockMvc.perform(lastEventId == null
+                        ? get(eventsUrl)
+                        : get(eventsUrl).header("Last-Event-ID", lastEventId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    private void create(String firstName) {
+        ContactInfo contact = contactService.createContact(command(firstName));
+        saved.add(contact.getId());
+    }
+
+    private String awaitContent(MvcResult stream, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5000;
+        String content = stream.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        while (!content.contains(expected)) {
+            assertTrue(System.currentTimeMillis() < deadline, () -> "no " + expected + " in stream");
+            Thread.sleep(20);
+            content = stream.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        }
+        return content;
+    }
+
+    private String eventId(String content, String firstName) {
+        Matcher matcher = EVENT_ID.matcher(content);
+        while (matcher.find()) {
+            if (matcher.group(2).equals(firstName)) {
+                return matcher.group(1);
+            }
+        }
+        return fail("no event of " + firstName);
+    }
+
+    private ContactCreateUpdateCommand command(String firstName) {
+        return new ContactCreateUpdateCommand(firstName, "Stream", firstName.toLowerCase() + ".stream@gmail.com", null, 1L, "");
+    }
+}
@@ -0,0 +1,65 @@
+package hu.futureofmedia.task.contactsapi.controller;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.metrics.AutoConfigureMetrics;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureMetrics
+class ContactMetricsIT {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Test
+    void testPrometheusEndpoint_EndpointLatencyPersistenceAndCacheMetricsExposed() throws Exception {
+        mockMvc.perform(get("/api/v1/contacts"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/contacts/1"))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("http_server_requests_seconds_bucket{exception=\"None\",method=\"GET\",outcome=\"SUCCESS\",status=\"200\",uri=\"/api/v1/contacts\"")))
+                .andExpect(content().string(containsString("uri=\"/api/v1/contacts/{id}\"")))
+                .andExpect(content().string(containsString("contacts_hibernate_statements_count{method=\"GET\",uri=\"/api/v1/contacts\"")))
+                .andExpect(content().string(containsString("contacts_hibernate_entity_loads_count{method=\"GET\",uri=\"/api/v1/contacts/{id}\"")))
+                .andExpect(content().string(containsString("hikaricp_connections_acquire_seconds_bucket")))
+                .andExpect(content().string(containsString("cache_gets_total{cache=\"contact-response\",result=\"miss\"")))
+                .andExpect(content().string(containsString("cache_gets_total{cache=\"company\",result=\"hit\"")));
+    }
+
+    @Test
+    void testPersistenceMetrics_StatementsCountedAndAsyncRequestsNotRecorded() throws Exception {
+        mockMvc.perform(get("/api/v1/contacts"))
+                .andExpect(status().isOk());
+        MvcResult asyncResult = mockMvc.perform(get("/api/v2/contacts"))
+                .andReturn();
+        mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk());
+
+        DistributionSummary statements = meterRegistry.find("contacts.hibernate.statements")
+                .tags("method", "GET", "uri", "/api/v1/contacts")
+                .summary();
+        assertNotNull(statements);
+        assertTrue(statements.totalAmount() >= statements.count());
+        assertNull(meterRegistry.find("contacts.hibernate.statements").tags("uri", "/api/v2/contacts").summary());
+    }
+}
@@ -0,0 +1,139 @@
+package hu.futureofmedia.task.contactsapi.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hu.futureofmedia.task.contactsapi.dto.ContactCreateUpdateCommand;
+import hu.futureofmedia.task.contactsapi.dto.ContactInfo;
+import hu.futureofmedia.task.contactsapi.dto.ContactMinInfo;
+import hu.futureofmedia.task.contactsapi.service.ContactService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ContactReactiveControllerIT {
+
+    private final String contactBaseUrl = "/api/v2/contacts";
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ContactService contactService;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    List<ContactInfo> saved = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        saved.add(contactService.createContact(new ContactCreateUpdateCommand(
+                "Rita", "Reactive", "rita.reactive@gmail.com", "36201234567", 1L, "Rita Reactive comment")));
+        saved.add(contactService.createContact(new ContactCreateUpdateCommand(
+                "Rob", "Reactive", "rob.reactive@gmail.com", null, 2L, "")));
+        saved.add(contactService.createContact(new ContactCreateUpdateCommand(
+                "Rex", "Reactive", "rex.reactive@gmail.com", null, 3L, "")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        saved.forEach(contact -> contactService.deleteContact(contact.getId()));
+        saved.clear();
+    }
+
+    @Test
+    void testGetAllContacts_SameContentAsV1() throws Exception {
+        MvcResult mvcResult = mockMvc.perform(get(contactBaseUrl))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        MvcResult v2 = mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.pageable.pageNumber", is(0)))
+                .andExpect(jsonPath("$.totalElements", is(3)))
+                .andExpect(jsonPath("$.content[0].fullName", equalTo("Rex Reactive")))
+                .andExpect(jsonPath("$.content[1].fullName", equalTo("Rita Reactive")))
+                .andExpect(jsonPath("$.content[1].companyName", equalTo("Company #1")))
+                .andExpect(jsonPath("$.content[2].fullName", equalTo("Rob Reactive")))
+                .andReturn();
+        MvcResult v1 = mockMvc.perform(get("/api/v1/contacts"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertEquals(getJson(v1).get("content"), getJson(v2).get("content"));
+    }
+
+    @Test
+    void testGetAllContacts_NegativePage_BadRequest() throws Exception {
+        mockMvc.perform(get(contactBaseUrl).param("page", "-1"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testStreamAllContacts_NdjsonOrderedByName() throws Exception {
+        MvcResult mvcResult = mockMvc.perform(get(contactBaseUrl + "/stream").accept("application/x-ndjson"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mvcResult.getAsyncResult(5000);
+
+        assertEquals("application/x-ndjson", mvcResult.getResponse().getContentType());
+        String[] lines = mvcResult.getResponse().getContentAsString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, lines.length);
+        assertEquals("Rex Reactive", objectMapper.readValue(lines[0], ContactMinInfo.class).getFullName());
+        assertEquals("Rob Reactive", objectMapper.readValue(lines[2], ContactMinInfo.class).getFullName());
+    }
+
+    @Test
+    void testGetContact_SameAsV1() throws Exception {
+        ContactInfo rita = saved.get(0);
+        MvcResult mvcResult = mockMvc.perform(get(contactBaseUrl + "/" + rita.getId()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        MvcResult v2 = mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("ETag"))
+                .andReturn();
+        MvcResult v1 = mockMvc.perform(get("/api/v1/contacts/" + rita.getId()))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertEquals(getJson(v1), getJson(v2));
+        assertEquals("Rita Reactive comment", getJson(v2).get("comment").asText());
+    }
+
+    @Test
+    void testGetContact_IdNotExists_IdNotFoundException() throws Exception {
+        MvcResult mvcResult = mockMvc.perform(get(contactBaseUrl + "/0"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$[0].errorMessage", equalTo("not found class Contact entity with id 0")));
+    }
+
+    private JsonNode getJson(MvcResult mvcResult) throws Exception {
+        return objectMapper.readTree(mvcResult.getResponse().getContentAsString(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,145 @@
+package hu.futureofmedia.task.contactsapi.controller;
+
+import hu.futureofmedia.task.contactsapi.dto.ContactBatchItemResult;
+import hu.futureofmedia.task.contactsapi.dto.ContactCreateUpdateCommand;
+import hu.futureofmedia.task.contactsapi.service.ContactService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Tag("load")
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "server.tomcat.threads.max=16",
+                "server.tomcat.accept-count=1000",
+                "server.tomcat.max-connections=2000",
+                "spring.datasource.hikari.maximum-pool-size=16",
+                "contact.request-log.success-sample-rate=0"})
+class ContactReadApiLoadTest {
+
+    private static final int CONTACTS = 500;
+    private static final int CONCURRENCY = 256;
+    private static final int REQUESTS = 5_000;
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    ContactService contactService;
+
+    HttpClient httpClient;
+
+    ExecutorService clientExecutor;
+
+    List<Long> saved = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        List<ContactCreateUpdateCommand> commands = IntStream.range(0, CONTACTS)
+                .mapToObj(i -> new ContactCreateUpdateCommand(
+                        String.format("Load%04d", i), "Test", "load" + i + "@gmail.com", null, (long) (i % 3 + 1), ""))
+                .collect(Collectors.toList());
+        contactService.createContacts(commands).getItems().stream()
+                .map(ContactBatchItemResult::getId)
+                .forEach(saved::add);
+        clientExecutor = Executors.newFixedThreadPool(8);
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(clientExecutor)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        saved.forEach(contactService::deleteContact);
+        saved.clear();
+        clientExecutor.shutdownNow();
+    }
+
+    @Test
+    void compareV1AndV2ThroughputAtHighConcurrency() throws Exception {
+        List<String> paths = List.of("/contacts?page=3", "/contacts/" + saved.get(CONTACTS / 2));
+        for (String path : paths) {
+            run("/api/v1" + path);
+            run("/api/v2" + path);
+        }
+        for (String path : paths) {
+            Result v1 = run("/api/v1" + path);
+            Result v2 = run("/api/v2" + path);
+            System.out.printf("%-24s v1: %s%n%-24s v2: %s%n", path, v1, "", v2);
+            assertEquals(REQUESTS, v1.ok);
+            assertEquals(REQUESTS, v2.ok);
+        }
+    }
+
+    private Result run(String path) throws Exception {
+        URI uri = URI.create("http://localhost:" + port + path);
+        Semaphore inFlight = new Semaphore(CONCURRENCY);
+        AtomicInteger ok = new AtomicInteger();
+        long[] latencies = new long[REQUESTS];
+        CompletableFuture<?>[] responses = new CompletableFuture<?>[REQUESTS];
+        long started = System.nanoTime();
+        for (int i = 0; i < REQUESTS; i++) {
+            int request = i;
+            inFlight.acquire();
+            long sent = System.nanoTime();
+            responses[i] = httpClient.sendAsync(HttpRequest.newBuilder(uri).GET().build(), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        latencies[request] = System.nanoTime() - sent;
+                        if (error == null && response.statusCode() == 200) {
+                            ok.incrementAndGet();
+                        }
+                        inFlight.release();
+                    });
+        }
+        CompletableFuture.allOf(responses).handle((ignored, error) -> null).join();
+        long elapsed = System.nanoTime() - started;
+        Arrays.sort(latencies);
+        return new Result(ok.get(), REQUESTS * 1e9 / elapsed, latencies[REQUESTS / 2], latencies[REQUESTS * 99 / 100]);
+    }
+
+    private static final class Result {
+
+        private final int ok;
+        private final double throughput;
+        private final long p50;
+        private final long p99;
+
+        private Result(int ok, double throughput, long p50, long p99) {
+            this.ok = ok;
+            this.throughput = throughput;
+            this.p50 = p50;
+            this.p99 = p99;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%8.1f req/s, p50 %6.1f ms, p99 %6.1f ms, %d/%d ok",
+                    throughput, p50 / 1e6, p99 / 1e6, ok, REQUESTS);
+        }
+    }
+}
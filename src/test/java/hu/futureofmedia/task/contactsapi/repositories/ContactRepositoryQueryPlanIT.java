@@ -0,0 +1,179 @@
+package hu.futureofmedia.task.contactsapi.repositories;
+
+import hu.futureofmedia.task.contactsapi.utility.SqlStatementRecorder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+class ContactRepositoryQueryPlanIT {
+
+    private static final String ACTIVE_NAME_INDEX = "idx_contact_active_name";
+
+    private static final String ACTIVE_COMPANY_INDEX = "idx_contact_active_company";
+
+    private static final String CHANGE_SEQ_INDEX = "idx_contact_change_seq";
+
+    private static final String ACTIVE_SEARCH_INDEX = "idx_contact_active_search";
+
+    private static final List<String> SEARCH_PREFIX_INDEXES = List.of(
+            "idx_contact_search_first_name", "idx_contact_search_last_name", "idx_contact_search_email");
+
+    @Autowired
+    ContactRepository contactRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    boolean postgres;
+
+    @BeforeEach
+    void setUp() {
+        postgres = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName()));
+        insertContacts(500);
+        if (postgres) {
+            jdbcTemplate.execute("ANALYZE contact");
+            jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+        }
+    }
+
+    @Test
+    void testFirstPageQuery_UsesActiveNameIndex() {
+        String sql = recordSingleStatement(() ->
+                contactRepository.getFirstContactsOrderByFullName(PageRequest.of(0, 11)));
+
+        assertPlanUsesIndex(sql, ACTIVE_NAME_INDEX);
+    }
+
+    @Test
+    void testNextPageQuery_UsesActiveNameIndex() {
+        String sql = recordSingleStatement(() ->
+                contactRepository.getContactsAfterOrderByFullName("John250", "Doe", 250L, PageRequest.of(0, 11)));
+
+        assertPlanUsesIndex(sql, ACTIVE_NAME_INDEX);
+    }
+
+    @Test
+    void testPreviousPageQuery_UsesActiveNameIndex() {
+        String sql = recordSingleStatement(() ->
+                contactRepository.getContactsBeforeOrderByFullNameDesc("John250", "Doe", 250L, PageRequest.of(0, 11)));
+
+        assertPlanUsesIndex(sql, ACTIVE_NAME_INDEX);
+    }
+
+    @Test
+    void testOffsetPageQuery_UsesActiveNameIndex() {
+        List<String> statements = SqlStatementRecorder.record(() -> contactRepository.getAllContactOrderByFullNameWithPagination(
+                PageRequest.of(3, 10, Sort.by("firstName", "lastName").ascending())));
+        String sql = statements.stream()
+                .filter(statement -> statement.toLowerCase(Locale.ROOT).contains("order by"))
+                .findFirst()
+                .orElseGet(() -> fail("no paged select in " + statements));
+
+        if (postgres) {
+            assertPlanUsesIndex(sql, ACTIVE_NAME_INDEX);
+            return;
+        }
+        String plan = explain(sql);
+        assertFalse(plan.toLowerCase(Locale.ROOT).contains("contact.tablescan"), () -> "expected an index on contact in plan of\n" + sql + "\n" + plan);
+    }
+
+    @Test
+    void testCompanyBulkUpdates_UseActiveCompanyIndex() {
+        assertPlanUsesCompanyIndex(NamedParameterUtils.parseSqlStatementIntoString(ContactBulkUpdateRepositoryImpl.SOFT_DELETE_BY_COMPANY));
+        assertPlanUsesCompanyIndex(NamedParameterUtils.parseSqlStatementIntoString(ContactBulkUpdateRepositoryImpl.REASSIGN_COMPANY));
+    }
+
+    @Test
+    void testChangesQuery_UsesChangeSeqIndex() {
+        String firstChanges = postgres ? ContactChangeRepositoryImpl.POSTGRES_FIRST_CHANGES : ContactChangeRepositoryImpl.H2_FIRST_CHANGES;
+        String changesAfterCursor = postgres ? ContactChangeRepositoryImpl.POSTGRES_CHANGES_AFTER_CURSOR : ContactChangeRepositoryImpl.H2_CHANGES_AFTER_CURSOR;
+        assertPlanUsesIndex(NamedParameterUtils.parseSqlStatementIntoString(firstChanges), CHANGE_SEQ_INDEX);
+        assertPlanUsesIndex(NamedParameterUtils.parseSqlStatementIntoString(changesAfterCursor), CHANGE_SEQ_INDEX);
+    }
+
+    @Test
+    void testSearchQuery_UsesSearchIndexes() {
+        if (postgres) {
+            assertPlanUsesIndex(NamedParameterUtils.parseSqlStatementIntoString(ContactSearchRepositoryImpl.POSTGRES_SEARCH), ACTIVE_SEARCH_INDEX);
+            return;
+        }
+        String sql = NamedParameterUtils.parseSqlStatementIntoString(ContactSearchRepositoryImpl.h2Search(2));
+        SEARCH_PREFIX_INDEXES.forEach(index -> assertPlanUsesIndex(sql, index));
+    }
+
+    private String recordSingleStatement(Runnable query) {
+        List<String> statements = SqlStatementRecorder.record(query);
+        assertEquals(1, statements.size(), () -> "expected a single statement but got " + statements);
+        return statements.get(0);
+    }
+
+    private void assertPlanUsesIndex(String sql, String index) {
+        String plan = explain(sql);
+        assertTrue(plan.toLowerCase(Locale.ROOT).contains(index), () -> "expected index " + index + " in plan of\n" + sql + "\n" + plan);
+    }
+
+    private void assertPlanUsesCompanyIndex(String sql) {
+        if (postgres) {
+            assertPlanUsesIndex(sql, ACTIVE_COMPANY_INDEX);
+            return;
+        }
+        String plan = explain(sql);
+        assertFalse(plan.toLowerCase(Locale.ROOT).contains("tablescan"), () -> "expected an index on company_id in plan of\n" + sql + "\n" + plan);
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                ParameterMetaData parameters = statement.getParameterMetaData();
+                for (int i = 1; i <= parameters.getParameterCount(); i++) {
+                    int type = parameters.getParameterType(i);
+                    if (type == Types.VARCHAR || type == Types.CHAR || type == Types.LONGVARCHAR) {
+                        statement.setString(i, "John250");
+                    } else if (type == Types.TIMESTAMP) {
+                        statement.setTimestamp(i, Timestamp.valueOf(LocalDateTime.now()));
+                    } else {
+                        statement.setLong(i, 11L);
+                    }
+                }
+                StringBuilder plan = new StringBuilder();
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        plan.append(resultSet.getString(1)).append('\n');
+                    }
+                }
+                return plan.toString();
+            }
+        });
+    }
+
+    private void insertContacts(int count) {
+        List<Object[]> rows = IntStream.rangeClosed(1, count)
+                .mapToObj(i -> new Object[]{"John" + i, "Doe", "john" + i + "@gmail.com", (long) (i % 3 + 1), i % 10 == 0 ? "DELETED" : "ACTIVE"})
+                .collect(Collectors.toList());
+        jdbcTemplate.batchUpdate("insert into contact (first_name, last_name, email, comment, company_id, status, created_date, last_modified_date) " +
+                "values (?, ?, ?, '', ?, ?, current_timestamp, current_timestamp)", rows);
+    }
+}
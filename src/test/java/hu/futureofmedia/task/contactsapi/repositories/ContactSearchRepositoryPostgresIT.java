@@ -0,0 +1,78 @@
+package hu.futureofmedia.task.contactsapi.repositories;
+
+import hu.futureofmedia.task.contactsapi.dto.ContactMinInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("postgres")
+@ActiveProfiles("postgres")
+@SpringBootTest
+@Transactional
+class ContactSearchRepositoryPostgresIT {
+
+    private static final String SURNAME = "Quetzalsearch";
+
+    @Autowired
+    ContactRepository contactRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        insertContact("John", SURNAME, "john.q@gmail.com", "", "ACTIVE");
+        insertContact("Jane", SURNAME, "jane.q@example.com", "", "ACTIVE");
+        insertContact("Jack", "Other", "jack.other@gmail.com", "Friend of the " + SURNAME + " family", "ACTIVE");
+        insertContact("Jill", SURNAME, "jill.q@gmail.com", "", "DELETED");
+    }
+
+    @Test
+    void testSearchContacts_NameMatch_RankedBeforeCommentMatch() {
+        List<String> names = search(SURNAME.toLowerCase(Locale.ROOT));
+
+        assertEquals(3, names.size());
+        assertEquals(Set.of("John", "Jane"), Set.copyOf(names.subList(0, 2)));
+        assertEquals("Jack", names.get(2));
+    }
+
+    @Test
+    void testSearchContacts_TermPrefixes_AllTermsRequired() {
+        assertEquals(List.of("Jane"), search("ja", "quetzal"));
+    }
+
+    @Test
+    void testSearchContacts_EmailParts_Matched() {
+        assertEquals(List.of("Jane"), search("example", "quetzal"));
+        assertEquals(List.of("John"), search("john.q@gmail.com"));
+    }
+
+    @Test
+    void testSearchContacts_DeletedContact_NotFound() {
+        assertEquals(List.of(), search("jill", "quetzal"));
+    }
+
+    private List<String> search(String... terms) {
+        return contactRepository.searchContacts(List.of(terms), PageRequest.of(0, 10)).getContent().stream()
+                .map(ContactMinInfo::getFirstName)
+                .collect(Collectors.toList());
+    }
+
+    private void insertContact(String firstName, String lastName, String email, String comment, String status) {
+        jdbcTemplate.update("insert into contact (first_name, last_name, email, comment, company_id, status, created_date, last_modified_date) " +
+                "values (?, ?, ?, ?, 1, ?, current_timestamp, current_timestamp)", firstName, lastName, email, comment, status);
+    }
+}
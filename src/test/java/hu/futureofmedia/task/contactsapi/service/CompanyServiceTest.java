@@ -0,0 +1,130 @@
+package hu.futureofmedia.task.contactsapi.service;
+
+import hu.futureofmedia.task.contactsapi.entities.Company;
+import hu.futureofmedia.task.contactsapi.exception.IdNotFoundException;
+import hu.futureofmedia.task.contactsapi.repositories.CompanyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CompanyServiceTest {
+
+    CompanyService companyService;
+
+    @Mock
+    CompanyRepository companyRepository;
+
+    Company companyOne, companyTwo;
+
+    @BeforeEach
+    void setUp() {
+        companyService = new CompanyService(companyRepository, Duration.ofMinutes(1), Runnable::run);
+        companyOne = new Company(1L, "Company #1");
+        companyTwo = new Company(2L, "Company #2");
+    }
+
+    @Test
+    void testFindCompanyById_Preloaded_NoRepositoryLookup() {
+        when(companyRepository.findAll()).thenReturn(List.of(companyOne, companyTwo));
+        companyService.loadCompanies();
+
+        assertSame(companyOne, companyService.findCompanyById(1L));
+        assertSame(companyTwo, companyService.findCompanyById(2L));
+
+        verify(companyRepository).findAll();
+        verifyNoMoreInteractions(companyRepository);
+        assertEquals(2, companyService.getHitCount());
+        assertEquals(0, companyService.getMissCount());
+        assertEquals(1, companyService.getRefreshCount());
+    }
+
+    @Test
+    void testFindCompanyById_NotExists_IdNotFoundException() {
+        when(companyRepository.findAll()).thenReturn(List.of(companyOne));
+        when(companyRepository.findById(100L)).thenReturn(Optional.empty());
+        companyService.loadCompanies();
+
+        assertThrows(IdNotFoundException.class, () -> companyService.findCompanyById(100L));
+
+        verify(companyRepository).findAll();
+        verify(companyRepository).findById(100L);
+        verifyNoMoreInteractions(companyRepository);
+        assertEquals(1, companyService.getMissCount());
+    }
+
+    @Test
+    void testFindCompanyById_NotExistsRepeatedly_RepositoryLookedUpOnce() {
+        when(companyRepository.findAll()).thenReturn(List.of(companyOne));
+        when(companyRepository.findById(100L)).thenReturn(Optional.empty());
+        companyService.loadCompanies();
+
+        assertThrows(IdNotFoundException.class, () -> companyService.findCompanyById(100L));
+        assertThrows(IdNotFoundException.class, () -> companyService.findCompanyById(100L));
+        assertThrows(IdNotFoundException.class, () -> companyService.findCompanyById(100L));
+
+        verify(companyRepository).findAll();
+        verify(companyRepository).findById(100L);
+        verifyNoMoreInteractions(companyRepository);
+        assertEquals(3, companyService.getMissCount());
+    }
+
+    @Test
+    void testFindCompanyById_NotExistsAfterTtl_RepositoryLookedUpAgain() {
+        companyService = new CompanyService(companyRepository, Duration.ZERO, Runnable::run);
+        when(companyRepository.findAll()).thenReturn(List.of(companyOne));
+        when(companyRepository.findById(100L)).thenReturn(Optional.empty());
+        companyService.loadCompanies();
+
+        assertThrows(IdNotFoundException.class, () -> companyService.findCompanyById(100L));
+        assertThrows(IdNotFoundException.class, () -> companyService.findCompanyById(100L));
+
+        verify(companyRepository, times(2)).findById(100L);
+    }
+
+    @Test
+    void testFindCompanyById_CreatedAfterLoading_RefreshedOffCallerThread() {
+        List<Runnable> refreshTasks = new ArrayList<>();
+        companyService = new CompanyService(companyRepository, Duration.ofMinutes(1), refreshTasks::add);
+        when(companyRepository.findAll()).thenReturn(List.of(companyOne));
+        when(companyRepository.findById(2L)).thenReturn(Optional.of(companyTwo));
+        companyService.loadCompanies();
+
+        assertSame(companyTwo, companyService.findCompanyById(2L));
+        assertSame(companyTwo, companyService.findCompanyById(2L));
+
+        verify(companyRepository).findAll();
+        assertEquals(1, refreshTasks.size());
+        refreshTasks.get(0).run();
+        verify(companyRepository, times(2)).findAll();
+    }
+
+    @Test
+    void testFindCompanyById_CreatedAfterLoading_SnapshotRefreshed() {
+        when(companyRepository.findAll())
+                .thenReturn(List.of(companyOne))
+                .thenReturn(List.of(companyOne, companyTwo));
+        when(companyRepository.findById(2L)).thenReturn(Optional.of(companyTwo));
+        companyService.loadCompanies();
+
+        assertSame(companyTwo, companyService.findCompanyById(2L));
+        assertSame(companyTwo, companyService.findCompanyById(2L));
+
+        verify(companyRepository, times(2)).findAll();
+        verify(companyRepository).findById(2L);
+        verifyNoMoreInteractions(companyRepository);
+        assertEquals(1, companyService.getHitCount());
+        assertEquals(1, companyService.getMissCount());
+        assertEquals(2, companyService.getRefreshCount());
+    }
+}
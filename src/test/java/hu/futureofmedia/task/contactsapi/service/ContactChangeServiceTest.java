@@ -0,0 +1,76 @@
+package hu.futureofmedia.task.contactsapi.service;
+
+import hu.futureofmedia.task.contactsapi.dto.ContactChange;
+import hu.futureofmedia.task.contactsapi.dto.ContactChangePage;
+import hu.futureofmedia.task.contactsapi.repositories.ContactRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ContactChangeServiceTest {
+
+    ContactChangeService contactChangeService;
+
+    @Mock
+    ContactRepository contactRepository;
+
+    LocalDateTime changedDate;
+
+    ContactChange first, second, third;
+
+    @BeforeEach
+    void setUp() {
+        contactChangeService = new ContactChangeService(contactRepository, 2, Duration.ZERO);
+        changedDate = LocalDateTime.of(2021, Month.AUGUST, 20, 10, 15, 30, 123456000);
+        first = ContactChange.deleted(1L, changedDate, 5L);
+        second = ContactChange.deleted(2L, changedDate, 5L);
+        third = ContactChange.deleted(3L, changedDate.minusSeconds(1), 6L);
+    }
+
+    @Test
+    void testGetChanges_FullSync_FollowedByCursor() {
+        when(contactRepository.findChangesAfter(isNull(), isNull(), any(), eq(3))).thenReturn(List.of(first, second, third));
+        when(contactRepository.findChangesAfter(eq(5L), eq(2L), any(), eq(3))).thenReturn(List.of(third));
+
+        ContactChangePage firstPage = contactChangeService.getChanges("");
+        assertEquals(List.of(first, second), firstPage.getChanges());
+        assertTrue(firstPage.isHasMore());
+
+        ContactChangePage secondPage = contactChangeService.getChanges(firstPage.getNext());
+        assertEquals(List.of(third), secondPage.getChanges());
+        assertFalse(secondPage.isHasMore());
+        assertNotEquals(firstPage.getNext(), secondPage.getNext());
+    }
+
+    @Test
+    void testGetChanges_NothingChanged_SameCursorReturned() {
+        when(contactRepository.findChangesAfter(isNull(), isNull(), any(), eq(3))).thenReturn(List.of(first));
+        String cursor = contactChangeService.getChanges("").getNext();
+        when(contactRepository.findChangesAfter(eq(5L), eq(1L), any(), eq(3))).thenReturn(List.of());
+
+        ContactChangePage page = contactChangeService.getChanges(cursor);
+
+        assertTrue(page.getChanges().isEmpty());
+        assertEquals(cursor, page.getNext());
+        assertFalse(page.isHasMore());
+    }
+
+    @Test
+    void testGetChanges_InvalidCursor_IllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> contactChangeService.getChanges("invalid"));
+        assertThrows(IllegalArgumentException.class, () -> contactChangeService.getChanges("YwAAAAAAAAAAAAAAAAAAAAAAAAAB"));
+
+        verifyNoInteractions(contactRepository);
+    }
+}
@@ -0,0 +1,86 @@
+package hu.futureofmedia.task.contactsapi.service;
+
+import hu.futureofmedia.task.contactsapi.dto.ContactCreateUpdateCommand;
+import hu.futureofmedia.task.contactsapi.dto.ContactInfo;
+import hu.futureofmedia.task.contactsapi.exception.VersionMismatchException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+class ContactConcurrentUpdateIT {
+
+    private static final int THREADS = 8;
+    private static final int INCREMENTS_PER_THREAD = 25;
+
+    @Autowired
+    ContactService contactService;
+
+    ContactInfo counter;
+
+    @BeforeEach
+    void setUp() {
+        counter = contactService.createContact(command(0));
+    }
+
+    @AfterEach
+    void tearDown() {
+        contactService.deleteContact(counter.getId());
+    }
+
+    @Test
+    void testUpdateContact_ConcurrentIncrements_NoLostUpdate() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Callable<Void>> workers = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            workers.add(() -> {
+                for (int j = 0; j < INCREMENTS_PER_THREAD; j++) {
+                    increment();
+                }
+                return null;
+            });
+        }
+
+        try {
+            for (Future<Void> worker : executor.invokeAll(workers)) {
+                worker.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        int total = THREADS * INCREMENTS_PER_THREAD;
+        ContactInfo result = contactService.getContact(counter.getId());
+        assertEquals(String.valueOf(total), result.getComment());
+        assertEquals((long) total, result.getVersion());
+    }
+
+    private void increment() {
+        while (true) {
+            ContactInfo current = contactService.getContact(counter.getId());
+            int value = Integer.parseInt(current.getComment());
+            try {
+                contactService.updateContact(counter.getId(), command(value + 1), current.getVersion());
+                return;
+            } catch (VersionMismatchException | OptimisticLockingFailureException ignored) {
+                // another writer won, retry on its version
+            }
+        }
+    }
+
+    private ContactCreateUpdateCommand command(int value) {
+        return new ContactCreateUpdateCommand("Counter", "Contact", "counter.contact@gmail.com", null, 1L, String.valueOf(value));
+    }
+}
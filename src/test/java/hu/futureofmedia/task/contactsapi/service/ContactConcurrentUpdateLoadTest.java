@@ -0,0 +1,131 @@
+package hu.futureofmedia.task.contactsapi.service;
+
+import hu.futureofmedia.task.contactsapi.dto.ContactCreateUpdateCommand;
+import hu.futureofmedia.task.contactsapi.dto.ContactInfo;
+import hu.futureofmedia.task.contactsapi.exception.VersionMismatchException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag("load")
+@SpringBootTest
+class ContactConcurrentUpdateLoadTest {
+
+    private static final int THREADS = 8;
+    private static final int INCREMENTS_PER_THREAD = 100;
+
+    /**
+     * Contended writers retry on version conflicts, so they are slower than writers of separate contacts, but they
+     * must not collapse to a fraction of it.
+     */
+    private static final double MIN_CONTENDED_RATIO = 0.25;
+
+    @Autowired
+    ContactService contactService;
+
+    List<Long> saved = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        saved.forEach(contactService::deleteContact);
+        saved.clear();
+    }
+
+    @Test
+    void compareContendedAndUncontendedUpdateThroughput() throws Exception {
+        run(false);
+        run(true);
+
+        Result uncontended = run(false);
+        Result contended = run(true);
+        System.out.printf("uncontended: %s%n  contended: %s%n", uncontended, contended);
+
+        assertTrue(contended.throughput >= uncontended.throughput * MIN_CONTENDED_RATIO,
+                () -> String.format("contended throughput %.1f updates/s is below %.0f%% of uncontended %.1f updates/s",
+                        contended.throughput, MIN_CONTENDED_RATIO * 100, uncontended.throughput));
+    }
+
+    private Result run(boolean contended) throws Exception {
+        List<Long> counters = new ArrayList<>();
+        for (int i = 0; i < (contended ? 1 : THREADS); i++) {
+            counters.add(contactService.createContact(command(0)).getId());
+        }
+        saved.addAll(counters);
+        AtomicInteger conflicts = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Callable<Void>> workers = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            Long counter = counters.get(i % counters.size());
+            workers.add(() -> {
+                for (int j = 0; j < INCREMENTS_PER_THREAD; j++) {
+                    increment(counter, conflicts);
+                }
+                return null;
+            });
+        }
+
+        long started = System.nanoTime();
+        try {
+            for (Future<Void> worker : executor.invokeAll(workers)) {
+                worker.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        long elapsed = System.nanoTime() - started;
+
+        int total = THREADS * INCREMENTS_PER_THREAD;
+        int perCounter = total / counters.size();
+        for (Long counter : counters) {
+            assertEquals(String.valueOf(perCounter), contactService.getContact(counter).getComment());
+        }
+        return new Result(total * 1e9 / elapsed, conflicts.get());
+    }
+
+    private void increment(Long id, AtomicInteger conflicts) {
+        while (true) {
+            ContactInfo current = contactService.getContact(id);
+            int value = Integer.parseInt(current.getComment());
+            try {
+                contactService.updateContact(id, command(value + 1), current.getVersion());
+                return;
+            } catch (VersionMismatchException | OptimisticLockingFailureException e) {
+                conflicts.incrementAndGet();
+            }
+        }
+    }
+
+    private ContactCreateUpdateCommand command(int value) {
+        return new ContactCreateUpdateCommand("Counter", "Contact", "counter.contact@gmail.com", null, 1L, String.valueOf(value));
+    }
+
+    private static final class Result {
+
+        private final double throughput;
+        private final int conflicts;
+
+        private Result(double throughput, int conflicts) {
+            this.throughput = throughput;
+            this.conflicts = conflicts;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%8.1f updates/s, %d version conflicts retried", throughput, conflicts);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package hu.futureofmedia.task.contactsapi.service;
+
+import hu.futureofmedia.task.contactsapi.event.ContactChangedEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "contact.events.sender-threads=1",
+                "contact.events.write-timeout=PT0.5S",
+                "contact.events.write-timeout-check-interval=PT0.1S",
+                "server.tomcat.connection-timeout=PT5S"})
+class ContactEventBroadcasterIT {
+
+    private static final String LARGE_NAME = "x".repeat(64 * 1024);
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    ContactEventBroadcaster contactEventBroadcaster;
+
+    @Test
+    void testEvictStuckSubscribers_ClientNotReading_EvictedWhileWriteBlockedAndOthersServedAfterWriteTimeout() throws Exception {
+        long evictionsBefore = contactEventBroadcaster.getEvictionCount();
+        int subscribersBefore = contactEventBroadcaster.getSubscriberCount();
+        try (Socket stuck = subscribe()) {
+            await(() -> contactEventBroadcaster.getSubscriberCount() == subscribersBefore + 1, 5_000);
+
+            long published = System.currentTimeMillis();
+            for (long id = 1; id <= 256; id++) {
+                contactEventBroadcaster.onContactChanged(
+                        new ContactChangedEvent(ContactChangedEvent.Type.UPDATED, id, LARGE_NAME, "Stuck"));
+            }
+
+            await(() -> contactEventBroadcaster.getEvictionCount() == evictionsBefore + 1, 3_000);
+            assertTrue(System.currentTimeMillis() - published < 3_000);
+            int subscribersAfterEviction = contactEventBroadcaster.getSubscriberCount();
+            assertTrue(subscribersAfterEviction <= subscribersBefore);
+
+            try (Socket reading = subscribe()) {
+                await(() -> contactEventBroadcaster.getSubscriberCount() == subscribersAfterEviction + 1, 5_000);
+                contactEventBroadcaster.onContactChanged(
+                        new ContactChangedEvent(ContactChangedEvent.Type.CREATED, 1000L, "Rita", "Reader"));
+
+                assertTrue(readUntil(reading.getInputStream(), "\"lastName\":\"Reader\""));
+                assertEquals(evictionsBefore + 1, contactEventBroadcaster.getEvictionCount());
+            }
+        }
+    }
+
+    @Test
+    void testEvictStuckSubscribers_ClientReading_NotEvicted() throws Exception {
+        long evictionsBefore = contactEventBroadcaster.getEvictionCount();
+        int subscribersBefore = contactEventBroadcaster.getSubscriberCount();
+        try (Socket reading = subscribe()) {
+            await(() -> contactEventBroadcaster.getSubscriberCount() == subscribersBefore + 1, 5_000);
+            contactEventBroadcaster.onContactChanged(
+                    new ContactChangedEvent(ContactChangedEvent.Type.CREATED, 2000L, "Rita", "Reader"));
+
+            assertTrue(readUntil(reading.getInputStream(), "\"lastName\":\"Reader\""));
+            Thread.sleep(1_000);
+
+            assertEquals(subscribersBefore + 1, contactEventBroadcaster.getSubscriberCount());
+            assertEquals(evictionsBefore, contactEventBroadcaster.getEvictionCount());
+        }
+    }
+
+    private Socket subscribe() throws IOException {
+        Socket socket = new Socket();
+        socket.setReceiveBufferSize(1024);
+        socket.connect(new InetSocketAddress("localhost", port));
+        socket.setSoTimeout(15_000);
+        socket.getOutputStream().write(("GET /api/v1/contacts/events HTTP/1.1\r\n" +
+                "Host: localhost\r\n" +
+                "Accept: text/event-stream\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+        socket.getOutputStream().flush();
+        return socket;
+    }
+
+    private boolean readUntil(InputStream in, String expected) throws IOException {
+        StringBuilder content = new StringBuilder();
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            content.append(new String(buffer, 0, read, StandardCharsets.UTF_8));
+            if (content.indexOf(expected) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void await(BooleanSupplier condition, long timeoutMillis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "condition not met in time");
+            Thread.sleep(20);
+        }
+    }
+}
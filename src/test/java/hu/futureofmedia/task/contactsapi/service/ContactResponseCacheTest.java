@@ -0,0 +1,111 @@
+package hu.futureofmedia.task.contactsapi.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import hu.futureofmedia.task.contactsapi.dto.ContactInfo;
+import hu.futureofmedia.task.contactsapi.event.ContactChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContactResponseCacheTest {
+
+    ContactResponseCache contactResponseCache;
+
+    ContactInfo johnDoeInfo, jillDoeInfo;
+
+    AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        contactResponseCache = new ContactResponseCache(objectMapper, 100, Duration.ofMinutes(10));
+        LocalDateTime now = LocalDateTime.now();
+        johnDoeInfo = new ContactInfo(1L, "John", "Doe", "john.doe@gmail.com", "36201234567", "Company #1", "John Doe comment", now, now, 0L);
+        jillDoeInfo = new ContactInfo(1L, "Jill", "Doe", "jill.doe@gmail.com", null, "Company #3", "Jill Doe comment", now, now, 1L);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void testGetContact_SecondRead_ServedFromCache() {
+        byte[] first = contactResponseCache.getContact(1L, 0L, id -> load(johnDoeInfo));
+        byte[] second = contactResponseCache.getContact(1L, 0L, id -> load(jillDoeInfo));
+
+        assertSame(first, second);
+        assertTrue(new String(first, StandardCharsets.UTF_8).contains("\"firstName\":\"John\""));
+        assertEquals(1, loads.get());
+        assertEquals(1, contactResponseCache.getHitCount());
+        assertEquals(1, contactResponseCache.getMissCount());
+    }
+
+    @Test
+    void testGetContact_UpdatedOrDeleted_EntryInvalidated() {
+        contactResponseCache.getContact(1L, 0L, id -> load(johnDoeInfo));
+
+        contactResponseCache.onContactChanged(new ContactChangedEvent(ContactChangedEvent.Type.UPDATED, 1L, "Jill", "Doe"));
+
+        assertTrue(new String(contactResponseCache.getContact(1L, 1L, id -> load(jillDoeInfo)), StandardCharsets.UTF_8).contains("Jill"));
+
+        contactResponseCache.onContactChangeCompleted(new ContactChangedEvent(ContactChangedEvent.Type.DELETED, 1L, "Jill", "Doe"));
+
+        assertEquals(0, contactResponseCache.getSize());
+    }
+
+    @Test
+    void testGetContact_ChangedWhileLoading_StaleResponseNotCached() {
+        byte[] stale = contactResponseCache.getContact(1L, 0L, id -> {
+            contactResponseCache.onContactChanged(new ContactChangedEvent(ContactChangedEvent.Type.UPDATED, 1L, "Jill", "Doe"));
+            return load(johnDoeInfo);
+        });
+
+        assertTrue(new String(stale, StandardCharsets.UTF_8).contains("John"));
+        assertEquals(0, contactResponseCache.getSize());
+        assertTrue(new String(contactResponseCache.getContact(1L, 1L, id -> load(jillDoeInfo)), StandardCharsets.UTF_8).contains("Jill"));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testGetContact_NewerVersionRequested_CachedVersionNotServed() {
+        contactResponseCache.getContact(1L, 0L, id -> load(johnDoeInfo));
+
+        byte[] newer = contactResponseCache.getContact(1L, 1L, id -> load(jillDoeInfo));
+
+        assertTrue(new String(newer, StandardCharsets.UTF_8).contains("Jill"));
+        assertSame(newer, contactResponseCache.getContact(1L, 1L, id -> load(johnDoeInfo)));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testGetContact_LoadedVersionDiffersFromRequested_NotCached() {
+        byte[] lagging = contactResponseCache.getContact(1L, 1L, id -> load(johnDoeInfo));
+
+        assertTrue(new String(lagging, StandardCharsets.UTF_8).contains("John"));
+        assertEquals(0, contactResponseCache.getSize());
+        assertTrue(new String(contactResponseCache.getContact(1L, 1L, id -> load(jillDoeInfo)), StandardCharsets.UTF_8).contains("Jill"));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testGetContact_OlderVersionLoaded_NewerEntryKept() {
+        byte[] newer = contactResponseCache.getContact(1L, 1L, id -> load(jillDoeInfo));
+
+        contactResponseCache.getContact(1L, 0L, id -> load(johnDoeInfo));
+
+        assertSame(newer, contactResponseCache.getContact(1L, 1L, id -> load(jillDoeInfo)));
+        assertEquals(2, loads.get());
+    }
+
+    private ContactInfo load(ContactInfo contact) {
+        loads.incrementAndGet();
+        return contact;
+    }
+}
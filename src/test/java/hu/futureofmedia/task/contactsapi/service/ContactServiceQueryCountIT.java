@@ -0,0 +1,168 @@
+package hu.futureofmedia.task.contactsapi.service;
+
+import hu.futureofmedia.task.contactsapi.dto.ContactBulkDeleteCommand;
+import hu.futureofmedia.task.contactsapi.dto.ContactCompanyReassignCommand;
+import hu.futureofmedia.task.contactsapi.dto.ContactCreateUpdateCommand;
+import hu.futureofmedia.task.contactsapi.dto.ContactCursorPage;
+import hu.futureofmedia.task.contactsapi.dto.ContactInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.json.Json;
+import javax.persistence.EntityManager;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static hu.futureofmedia.task.contactsapi.utility.SqlStatementRecorder.assertStatementCount;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+class ContactServiceQueryCountIT {
+
+    @Autowired
+    ContactService contactService;
+
+    @Autowired
+    EntityManager entityManager;
+
+    List<ContactInfo> saved;
+
+    @BeforeEach
+    void setUp() {
+        saved = IntStream.rangeClosed(1, 5)
+                .mapToObj(i -> contactService.createContact(command(String.format("John%02d", i))))
+                .collect(Collectors.toList());
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void testCreateContact_OnlyInsert() {
+        assertStatementCount(1, () -> {
+            contactService.createContact(command("Jane"));
+            entityManager.flush();
+        });
+    }
+
+    @Test
+    void testCreateContacts_OneBatchedInsert() {
+        List<String> statements = assertStatementCount(1, () ->
+                contactService.createContacts(List.of(command("Jane"), command("Jack"), command("Jill"))));
+        assertTrue(statements.get(0).startsWith("insert into contact"));
+    }
+
+    @Test
+    void testGetAllContacts_PageQueryOnlyWhenTotalIsKnownFromContent() {
+        assertStatementCount(1, () -> contactService.getAllContacts(0));
+    }
+
+    @Test
+    void testGetAllContacts_PageQueryAndCountOnLaterPage() {
+        assertStatementCount(2, () -> contactService.getAllContacts(1));
+    }
+
+    @Test
+    void testGetAllContactsAsSlice_NoCountQuery() {
+        assertStatementCount(1, () -> contactService.getAllContactsAsSlice(0));
+    }
+
+    @Test
+    void testGetAllContactsWithEstimatedTotal_LastPage_NoCountQuery() {
+        assertStatementCount(1, () -> contactService.getAllContactsWithEstimatedTotal(0));
+    }
+
+    @Test
+    void testGetAllContactsByCursor_OneQueryPerPage() {
+        ContactCursorPage first = contactService.getAllContactsByCursor("");
+        entityManager.clear();
+        assertStatementCount(1, () -> contactService.getAllContactsByCursor(first.getNext() == null ? "" : first.getNext()));
+    }
+
+    @Test
+    void testSearchContacts_NoHibernateStatement() {
+        assertStatementCount(0, () -> contactService.searchContacts("john", 0));
+    }
+
+    @Test
+    void testGetContactVersion_NoCompanyJoin() {
+        List<String> statements = assertStatementCount(1, () -> contactService.getContactVersion(saved.get(0).getId()));
+        assertFalse(statements.get(0).contains("company"));
+    }
+
+    @Test
+    void testGetContact_ContactAndCompanyInOneQuery() {
+        List<String> statements = assertStatementCount(1, () -> contactService.getContact(saved.get(0).getId()));
+        assertTrue(statements.get(0).contains("join company"));
+    }
+
+    @Test
+    void testUpdateContact_SelectWithoutCompanyAndUpdate() {
+        List<String> statements = assertStatementCount(2, () ->
+                contactService.updateContact(saved.get(0).getId(), command("Jill")));
+        assertFalse(statements.get(0).contains("join"));
+        assertTrue(statements.get(1).startsWith("update contact"));
+    }
+
+    @Test
+    void testUpdateContact_ExpectedVersion_CheckedInUpdateWithoutLocking() {
+        List<String> statements = assertStatementCount(2, () ->
+                contactService.updateContact(saved.get(0).getId(), command("Jill"), 0L));
+        assertFalse(statements.get(0).contains("for update"));
+        assertTrue(statements.get(1).contains("version=?"));
+    }
+
+    @Test
+    void testPatchContact_UpdateWritesOnlyChangedColumns() {
+        List<String> statements = assertStatementCount(2, () ->
+                contactService.patchContact(saved.get(0).getId(), Json.createMergePatch(
+                        Json.createObjectBuilder().add("phoneNumber", "36207654321").build())));
+        assertFalse(statements.get(0).contains("join"));
+        assertTrue(statements.get(1).startsWith("update contact set"));
+        assertTrue(statements.get(1).contains("phone_number"));
+        assertFalse(statements.get(1).contains("first_name"));
+        assertFalse(statements.get(1).contains("comment"));
+    }
+
+    @Test
+    void testDeleteContact_SelectWithoutCompanyAndStatusUpdate() {
+        List<String> statements = assertStatementCount(2, () -> {
+            contactService.deleteContact(saved.get(0).getId());
+            entityManager.flush();
+        });
+        assertFalse(statements.get(0).contains("join"));
+        assertTrue(statements.get(1).startsWith("update contact set"));
+        assertTrue(statements.get(1).contains("status"));
+    }
+
+    @Test
+    void testDeleteContacts_ByIds_SingleUpdate() {
+        List<Long> ids = saved.stream().map(ContactInfo::getId).collect(Collectors.toList());
+        List<String> statements = assertStatementCount(1, () ->
+                assertEquals(5, contactService.deleteContacts(new ContactBulkDeleteCommand(ids, null)).getAffected()));
+        assertTrue(statements.get(0).contains("update contact set status = 'DELETED'"));
+    }
+
+    @Test
+    void testDeleteContacts_ByCompany_SingleUpdate() {
+        List<String> statements = assertStatementCount(1, () ->
+                assertEquals(5, contactService.deleteContacts(new ContactBulkDeleteCommand(null, 1L)).getAffected()));
+        assertTrue(statements.get(0).contains("update contact set status = 'DELETED'"));
+        assertTrue(statements.get(0).contains("company_id = ?"));
+    }
+
+    @Test
+    void testReassignCompany_SingleUpdate() {
+        List<String> statements = assertStatementCount(1, () ->
+                assertEquals(5, contactService.reassignCompany(new ContactCompanyReassignCommand(1L, 2L)).getAffected()));
+        assertTrue(statements.get(0).contains("update contact set company_id"));
+    }
+
+    private ContactCreateUpdateCommand command(String firstName) {
+        return new ContactCreateUpdateCommand(firstName, "Doe", "john.doe@gmail.com", "36201234567", 1L, "");
+    }
+}
@@ -0,0 +1,172 @@
+package hu.futureofmedia.task.contactsapi.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hu.futureofmedia.task.contactsapi.dto.ContactCreateUpdateCommand;
+import hu.futureofmedia.task.contactsapi.dto.ContactInfo;
+import hu.futureofmedia.task.contactsapi.exception.IdNotFoundException;
+import hu.futureofmedia.task.contactsapi.utility.ReadYourWritesInterceptor;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import javax.servlet.http.Cookie;
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "contact.replica.url=" + ContactServiceReplicaRoutingIT.REPLICA_URL,
+        "contact.replica.username=sa",
+        "contact.replica.password=",
+        "contact.replica.read-your-writes-window=PT1M"})
+@AutoConfigureMockMvc
+class ContactServiceReplicaRoutingIT {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:replicadb;DB_CLOSE_DELAY=-1";
+
+    static JdbcTemplate replica;
+
+    @Autowired
+    ContactService contactService;
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    List<Long> saved = new ArrayList<>();
+
+    @BeforeAll
+    static void migrateReplica() {
+        DataSource dataSource = new DriverManagerDataSource(REPLICA_URL, "sa", "");
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration/h2")
+                .load()
+                .migrate();
+        replica = new JdbcTemplate(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        saved.forEach(contactService::deleteContact);
+        saved.clear();
+        replica.update("delete from contact");
+    }
+
+    @Test
+    void testGetContact_ReadOnlyTransaction_ServedByReplica() {
+        ContactInfo paula = contactService.createContact(command("Paula", "Primary"));
+        saved.add(paula.getId());
+
+        assertThrows(IdNotFoundException.class, () -> contactService.getContact(paula.getId()));
+
+        LocalDateTime now = LocalDateTime.now();
+        replica.update("insert into contact (id, first_name, last_name, email, comment, company_id, status, created_date, last_modified_date) " +
+                "values (?, 'Rita', 'Replica', 'rita.replica@gmail.com', '', 1, 'ACTIVE', ?, ?)", paula.getId(), now, now);
+
+        assertEquals("Rita", contactService.getContact(paula.getId()).getFirstName());
+        assertEquals("Paula", contactService.updateContact(paula.getId(), command("Paula", "Primary")).getFirstName());
+    }
+
+    @Test
+    void testGetContact_AfterWriteWithinWindow_ServedByPrimary() throws Exception {
+        MvcResult created = mockMvc.perform(post("/api/v1/contacts")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(command("Wanda", "Writer"))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        ContactInfo wanda = objectMapper.readValue(created.getResponse().getContentAsString(), ContactInfo.class);
+        saved.add(wanda.getId());
+        Cookie readPrimary = created.getResponse().getCookie(ReadYourWritesInterceptor.COOKIE_NAME);
+        assertNotNull(readPrimary);
+
+        mockMvc.perform(get("/api/v1/contacts/" + wanda.getId()).cookie(readPrimary))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/contacts/" + wanda.getId()))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testGetContact_LaggingReplicaReadCached_ReadWithCookieGetsCurrentVersion() throws Exception {
+        MvcResult created = mockMvc.perform(post("/api/v1/contacts")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(command("Wanda", "Writer"))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        ContactInfo wanda = objectMapper.readValue(created.getResponse().getContentAsString(), ContactInfo.class);
+        saved.add(wanda.getId());
+        LocalDateTime now = LocalDateTime.now();
+        replica.update("insert into contact (id, first_name, last_name, email, comment, company_id, status, created_date, last_modified_date, version) " +
+                "values (?, 'Wanda', 'Writer', 'wanda.writer@gmail.com', '', 1, 'ACTIVE', ?, ?, ?)", wanda.getId(), now, now, wanda.getVersion());
+
+        MvcResult updated = mockMvc.perform(put("/api/v1/contacts/" + wanda.getId())
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(command("Wendy", "Writer"))))
+                .andExpect(status().isOk())
+                .andReturn();
+        Cookie readPrimary = updated.getResponse().getCookie(ReadYourWritesInterceptor.COOKIE_NAME);
+        assertNotNull(readPrimary);
+
+        MvcResult lagging = mockMvc.perform(get("/api/v1/contacts/" + wanda.getId()))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertEquals("Wanda", objectMapper.readValue(lagging.getResponse().getContentAsString(), ContactInfo.class).getFirstName());
+
+        MvcResult current = mockMvc.perform(get("/api/v1/contacts/" + wanda.getId()).cookie(readPrimary))
+                .andExpect(status().isOk())
+                .andReturn();
+        ContactInfo wendy = objectMapper.readValue(current.getResponse().getContentAsString(), ContactInfo.class);
+        assertEquals("Wendy", wendy.getFirstName());
+        assertEquals(wanda.getVersion() + 1, wendy.getVersion());
+        assertNotEquals(lagging.getResponse().getHeader("ETag"), current.getResponse().getHeader("ETag"));
+    }
+
+    @Test
+    void testGetAllContacts_LaggingReplicaListCached_ReplicaCatchingUpChangesETag() throws Exception {
+        MvcResult created = mockMvc.perform(post("/api/v1/contacts")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(command("Wanda", "Writer"))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        ContactInfo wanda = objectMapper.readValue(created.getResponse().getContentAsString(), ContactInfo.class);
+        saved.add(wanda.getId());
+
+        String eTag = mockMvc.perform(get("/api/v1/contacts"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(0)))
+                .andReturn().getResponse().getHeader("ETag");
+
+        LocalDateTime now = LocalDateTime.now();
+        replica.update("insert into contact (id, first_name, last_name, email, comment, company_id, status, created_date, last_modified_date) " +
+                "values (?, 'Wanda', 'Writer', 'wanda.writer@gmail.com', '', 1, 'ACTIVE', ?, ?)", wanda.getId(), now, now);
+
+        mockMvc.perform(get("/api/v1/contacts").header("If-None-Match", eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)));
+    }
+
+    private ContactCreateUpdateCommand command(String firstName, String lastName) {
+        return new ContactCreateUpdateCommand(firstName, lastName,
+                String.format("%s.%s@gmail.com", firstName, lastName).toLowerCase(), null, 1L, "");
+    }
+}
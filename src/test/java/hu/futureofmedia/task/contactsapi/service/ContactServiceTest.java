@@ -1,11 +1,23 @@
 package hu.futureofmedia.task.contactsapi.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr353.JSR353Module;
+import hu.futureofmedia.task.contactsapi.dto.ContactBatchItemResult;
+import hu.futureofmedia.task.contactsapi.dto.ContactBatchResult;
+import hu.futureofmedia.task.contactsapi.dto.ContactBulkDeleteCommand;
+import hu.futureofmedia.task.contactsapi.dto.ContactBulkResult;
+import hu.futureofmedia.task.contactsapi.dto.ContactCompanyReassignCommand;
 import hu.futureofmedia.task.contactsapi.dto.ContactCreateUpdateCommand;
+import hu.futureofmedia.task.contactsapi.dto.ContactCursorPage;
 import hu.futureofmedia.task.contactsapi.dto.ContactInfo;
 import hu.futureofmedia.task.contactsapi.dto.ContactMinInfo;
+import hu.futureofmedia.task.contactsapi.dto.ContactSuggestion;
 import hu.futureofmedia.task.contactsapi.entities.Company;
 import hu.futureofmedia.task.contactsapi.entities.Contact;
+import hu.futureofmedia.task.contactsapi.event.ContactChangedEvent;
+import hu.futureofmedia.task.contactsapi.exception.ErrorMessage;
 import hu.futureofmedia.task.contactsapi.exception.IdNotFoundException;
+import hu.futureofmedia.task.contactsapi.exception.VersionMismatchException;
 import hu.futureofmedia.task.contactsapi.property.ContactProperties;
 import hu.futureofmedia.task.contactsapi.repositories.ContactRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,11 +27,22 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 
+import javax.json.Json;
+import javax.persistence.EntityManager;
+import javax.validation.ConstraintViolationException;
+import javax.validation.Validation;
+import javax.validation.Validator;
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -37,7 +60,22 @@ class ContactServiceTest {
     CompanyService companyService;
 
     @Spy
-    ContactProperties contactProperties = new ContactProperties(10);
+    ContactProperties contactProperties = new ContactProperties(10, 2, 100, 2);
+
+    @Mock
+    ContactCountEstimator contactCountEstimator;
+
+    @Spy
+    Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Mock
+    EntityManager entityManager;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().modulesToInstall(new JSR353Module()).build();
 
     ContactCreateUpdateCommand johnDoeCreate, jillDoeUpdate;
     Contact johnDoeToSave, johnDoeSaved, jillDoeToUpdate, jillDoeUpdated;
@@ -74,6 +112,7 @@ class ContactServiceTest {
 
         verify(companyService).findCompanyById(1L);
         verify(contactRepository).save(johnDoeToSave);
+        verify(eventPublisher).publishEvent(new ContactChangedEvent(ContactChangedEvent.Type.CREATED, 1L, "John", "Doe"));
 
         verifyNoMoreInteractions(contactRepository);
         verifyNoMoreInteractions(companyService);
@@ -128,6 +167,44 @@ class ContactServiceTest {
         verifyNoInteractions(contactProperties);
     }
 
+    @Test
+    void testCreateContacts_ValidAndInvalidMixed_InvalidReportedPerItem() {
+        ContactCreateUpdateCommand invalidPhone = new ContactCreateUpdateCommand(
+                "Jane", "Doe", "jane.doe@gmail.com", "0620", 1L, "");
+        ContactCreateUpdateCommand unknownCompany = new ContactCreateUpdateCommand(
+                "Jack", "Doe", "jack.doe@gmail.com", null, 100L, "");
+        when(companyService.findCompanyById(1L)).thenReturn(companyOne);
+        when(companyService.findCompanyById(100L)).thenThrow(new IdNotFoundException(100L, Company.class));
+
+        ContactBatchResult result = contactService.createContacts(Arrays.asList(johnDoeCreate, invalidPhone, null, unknownCompany, johnDoeCreate));
+
+        assertEquals(2, result.getCreated());
+        assertEquals(3, result.getRejected());
+        assertEquals(List.of(
+                ContactBatchItemResult.created(0, null),
+                ContactBatchItemResult.rejected(1, List.of(new ErrorMessage("phoneNumber", "must suit the requirements of E.164 format"))),
+                ContactBatchItemResult.rejected(2, List.of(new ErrorMessage(null, "must not be null"))),
+                ContactBatchItemResult.rejected(3, List.of(new ErrorMessage("companyId", "not found class Company entity with id 100"))),
+                ContactBatchItemResult.created(4, null)), result.getItems());
+
+        verify(entityManager, times(2)).persist(johnDoeToSave);
+        verify(entityManager, times(2)).flush();
+        verify(entityManager, times(2)).clear();
+        verifyNoInteractions(contactRepository);
+    }
+
+    @Test
+    void testCreateContacts_TooManyContacts_IllegalArgumentException() {
+        List<ContactCreateUpdateCommand> commands = IntStream.range(0, 101)
+                .mapToObj(i -> johnDoeCreate)
+                .collect(Collectors.toList());
+
+        assertThrows(IllegalArgumentException.class, () -> contactService.createContacts(commands));
+
+        verifyNoInteractions(entityManager);
+        verifyNoInteractions(companyService);
+    }
+
     @Test
     void testGetAllContacts_emptyRepo() {
         Sort sort = Sort.by("firstName", "lastName").ascending();
@@ -149,13 +226,154 @@ class ContactServiceTest {
         verifyNoMoreInteractions(contactProperties);
     }
 
+    @Test
+    void testGetAllContactsAsSlice_NoCountQuery() {
+        Sort sort = Sort.by("firstName", "lastName").ascending();
+        Pageable pageable = PageRequest.of(0, 10, sort);
+        Slice<ContactMinInfo> contactSlice = new SliceImpl<>(List.of(), pageable, false);
+        when(contactProperties.getPageSize()).thenReturn(10);
+        when(contactRepository.getAllContactOrderByFullNameAsSlice(pageable)).thenReturn(contactSlice);
+
+        assertEquals(contactSlice, contactService.getAllContactsAsSlice(0));
+
+        verify(contactRepository).getAllContactOrderByFullNameAsSlice(pageable);
+
+        verifyNoMoreInteractions(contactRepository);
+        verifyNoInteractions(companyService);
+        verifyNoInteractions(contactCountEstimator);
+    }
+
+    @Test
+    void testGetAllContactsWithEstimatedTotal_HasNextPage_EstimatedTotalReturned() {
+        Sort sort = Sort.by("firstName", "lastName").ascending();
+        Pageable pageable = PageRequest.of(0, 10, sort);
+        List<ContactMinInfo> rows = numberedJohnDoes(10);
+        when(contactProperties.getPageSize()).thenReturn(10);
+        when(contactRepository.getAllContactOrderByFullNameAsSlice(pageable)).thenReturn(new SliceImpl<>(rows, pageable, true));
+        when(contactCountEstimator.estimateActiveContacts()).thenReturn(1000L);
+
+        Page<ContactMinInfo> contactPage = contactService.getAllContactsWithEstimatedTotal(0);
+        assertEquals(rows, contactPage.getContent());
+        assertEquals(1000L, contactPage.getTotalElements());
+        assertEquals(100, contactPage.getTotalPages());
+
+        verify(contactRepository).getAllContactOrderByFullNameAsSlice(pageable);
+        verify(contactCountEstimator).estimateActiveContacts();
+
+        verifyNoMoreInteractions(contactRepository);
+        verifyNoInteractions(companyService);
+    }
+
+    @Test
+    void testGetAllContactsWithEstimatedTotal_LastPage_ExactTotalWithoutEstimation() {
+        Sort sort = Sort.by("firstName", "lastName").ascending();
+        Pageable pageable = PageRequest.of(1, 10, sort);
+        List<ContactMinInfo> rows = numberedJohnDoes(3);
+        when(contactProperties.getPageSize()).thenReturn(10);
+        when(contactRepository.getAllContactOrderByFullNameAsSlice(pageable)).thenReturn(new SliceImpl<>(rows, pageable, false));
+
+        Page<ContactMinInfo> contactPage = contactService.getAllContactsWithEstimatedTotal(1);
+        assertEquals(13L, contactPage.getTotalElements());
+
+        verifyNoInteractions(contactCountEstimator);
+    }
+
+    @Test
+    void testGetAllContactsByCursor_FirstPage_NextCursorPointsAfterLastContent() {
+        Pageable limit = PageRequest.of(0, 11);
+        List<ContactMinInfo> rows = numberedJohnDoes(11);
+        when(contactProperties.getPageSize()).thenReturn(10);
+        when(contactRepository.getFirstContactsOrderByFullName(limit)).thenReturn(rows);
+
+        ContactCursorPage cursorPage = contactService.getAllContactsByCursor("");
+        assertEquals(rows.subList(0, 10), cursorPage.getContent());
+        assertEquals(ContactCursor.after(rows.get(9)), ContactCursor.decode(cursorPage.getNext()));
+        assertNull(cursorPage.getPrevious());
+
+        verify(contactProperties).getPageSize();
+        verify(contactRepository).getFirstContactsOrderByFullName(limit);
+
+        verifyNoMoreInteractions(contactRepository);
+        verifyNoInteractions(companyService);
+        verifyNoMoreInteractions(contactProperties);
+    }
+
+    @Test
+    void testGetAllContactsByCursor_LastPage_NoNextCursor() {
+        Pageable limit = PageRequest.of(0, 11);
+        List<ContactMinInfo> rows = numberedJohnDoes(13);
+        when(contactProperties.getPageSize()).thenReturn(10);
+        when(contactRepository.getContactsAfterOrderByFullName("John10", "Doe", 10L, limit)).thenReturn(rows.subList(10, 13));
+
+        ContactCursorPage cursorPage = contactService.getAllContactsByCursor(ContactCursor.after(rows.get(9)).encode());
+        assertEquals(rows.subList(10, 13), cursorPage.getContent());
+        assertNull(cursorPage.getNext());
+        assertEquals(ContactCursor.before(rows.get(10)), ContactCursor.decode(cursorPage.getPrevious()));
+
+        verify(contactRepository).getContactsAfterOrderByFullName("John10", "Doe", 10L, limit);
+
+        verifyNoMoreInteractions(contactRepository);
+        verifyNoInteractions(companyService);
+    }
+
+    @Test
+    void testGetAllContactsByCursor_PreviousPage_ContentInAscendingOrder() {
+        Pageable limit = PageRequest.of(0, 11);
+        List<ContactMinInfo> rows = numberedJohnDoes(13);
+        List<ContactMinInfo> descending = rows.subList(0, 10).stream()
+                .sorted((a, b) -> Long.compare(b.getId(), a.getId()))
+                .collect(Collectors.toList());
+        when(contactProperties.getPageSize()).thenReturn(10);
+        when(contactRepository.getContactsBeforeOrderByFullNameDesc("John11", "Doe", 11L, limit)).thenReturn(descending);
+
+        ContactCursorPage cursorPage = contactService.getAllContactsByCursor(ContactCursor.before(rows.get(10)).encode());
+        assertEquals(rows.subList(0, 10), cursorPage.getContent());
+        assertEquals(ContactCursor.after(rows.get(9)), ContactCursor.decode(cursorPage.getNext()));
+        assertNull(cursorPage.getPrevious());
+
+        verify(contactRepository).getContactsBeforeOrderByFullNameDesc("John11", "Doe", 11L, limit);
+
+        verifyNoMoreInteractions(contactRepository);
+        verifyNoInteractions(companyService);
+    }
+
+    @Test
+    void testGetAllContactsByCursor_InvalidCursor_IllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> contactService.getAllContactsByCursor("not-a-cursor"));
+
+        verifyNoInteractions(contactRepository);
+        verifyNoInteractions(companyService);
+    }
+
+    @Test
+    void testSearchContacts_QueryWithPunctuation_NormalizedTermsSearched() {
+        Slice<ContactMinInfo> found = new SliceImpl<>(List.of(new ContactMinInfo(1L, "John", "Doe", "john.doe@gmail.com", null, companyOne.getName())), PageRequest.of(0, 10), false);
+        when(contactProperties.getPageSize()).thenReturn(10);
+        when(contactRepository.searchContacts(List.of("john", "doe@gmail.com"), PageRequest.of(0, 10))).thenReturn(found);
+
+        assertEquals(found, contactService.searchContacts("  John, doe@gmail.com  john!", 0));
+
+        verify(contactRepository).searchContacts(List.of("john", "doe@gmail.com"), PageRequest.of(0, 10));
+
+        verifyNoMoreInteractions(contactRepository);
+        verifyNoInteractions(companyService);
+    }
+
+    @Test
+    void testSearchContacts_NoWordInQuery_IllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> contactService.searchContacts(" ,;! ", 0));
+
+        verifyNoInteractions(contactRepository);
+        verifyNoInteractions(companyService);
+    }
+
     @Test
     void testGetContactById_GetIdOne_ReturnJohnDoe() {
-        when(contactRepository.findById(1L)).thenReturn(Optional.of(johnDoeSaved));
+        when(contactRepository.findWithCompanyById(1L)).thenReturn(Optional.of(johnDoeSaved));
 
         assertEquals(johnDoeInfo, contactService.getContact(1L));
 
-        verify(contactRepository).findById(1L);
+        verify(contactRepository).findWithCompanyById(1L);
 
         verifyNoMoreInteractions(contactRepository);
         verifyNoInteractions(companyService);
@@ -164,11 +382,11 @@ class ContactServiceTest {
 
     @Test
     void testGetContactById_IdNotExistsOrAlreadyDeleted_IdNotFoundException() {
-        when(contactRepository.findById(1L)).thenReturn(Optional.empty());
+        when(contactRepository.findWithCompanyById(1L)).thenReturn(Optional.empty());
 
         assertThrows(IdNotFoundException.class, () -> contactService.getContact(1L));
 
-        verify(contactRepository).findById(1L);
+        verify(contactRepository).findWithCompanyById(1L);
 
         verifyNoMoreInteractions(contactRepository);
         verifyNoInteractions(companyService);
@@ -204,15 +422,79 @@ class ContactServiceTest {
         verifyNoInteractions(contactProperties);
     }
 
+    @Test
+    void testUpdateContact_ExpectedVersionDiffers_VersionMismatchException() {
+        when(contactRepository.findById(1L)).thenReturn(Optional.of(johnDoeSaved));
+
+        assertThrows(VersionMismatchException.class, () -> contactService.updateContact(1L, jillDoeUpdate, 3L));
+
+        verify(contactRepository).findById(1L);
+
+        verifyNoMoreInteractions(contactRepository);
+        verifyNoInteractions(companyService);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void testPatchContact_PhoneNumberRemoved_OnlyPhoneNumberChanged() {
+        when(contactRepository.findById(1L)).thenReturn(Optional.of(johnDoeSaved));
+        when(companyService.findCompanyById(1L)).thenReturn(companyOne);
+        when(contactRepository.saveAndFlush(johnDoeSaved)).thenReturn(johnDoeSaved);
+
+        ContactInfo patched = contactService.patchContact(1L, Json.createMergePatch(
+                Json.createObjectBuilder().addNull("phoneNumber").add("comment", " Patched comment ").build()));
+
+        assertNull(patched.getPhoneNumber());
+        assertEquals("Patched comment", patched.getComment());
+        assertEquals("John", patched.getFirstName());
+        assertEquals("john.doe@gmail.com", patched.getEmail());
+        assertEquals("Company #1", patched.getCompanyName());
+
+        verify(contactRepository).findById(1L);
+        verify(contactRepository).saveAndFlush(johnDoeSaved);
+        verify(eventPublisher).publishEvent(new ContactChangedEvent(ContactChangedEvent.Type.UPDATED, 1L, "John", "Doe"));
+
+        verifyNoMoreInteractions(contactRepository);
+    }
+
+    @Test
+    void testPatchContact_InvalidEmail_ConstraintViolationExceptionForPatchedFieldOnly() {
+        when(contactRepository.findById(1L)).thenReturn(Optional.of(johnDoeSaved));
+
+        ConstraintViolationException exception = assertThrows(ConstraintViolationException.class,
+                () -> contactService.patchContact(1L, Json.createMergePatch(
+                        Json.createObjectBuilder().add("email", "john.doe").build())));
+
+        assertEquals(1, exception.getConstraintViolations().size());
+        assertEquals("email", exception.getConstraintViolations().iterator().next().getPropertyPath().toString());
+
+        verify(contactRepository).findById(1L);
+
+        verifyNoMoreInteractions(contactRepository);
+        verifyNoInteractions(companyService);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void testPatchContact_UnknownField_IllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> contactService.patchContact(1L, Json.createMergePatch(
+                Json.createObjectBuilder().add("status", "DELETED").build())));
+
+        verifyNoInteractions(contactRepository);
+        verifyNoInteractions(eventPublisher);
+    }
+
     @Test
     void testDeleteContact() {
         when(contactRepository.findById(1L)).thenReturn(Optional.of(johnDoeSaved));
-        doNothing().when(contactRepository).delete(johnDoeSaved);
+        when(contactRepository.saveAndFlush(johnDoeSaved)).thenReturn(johnDoeSaved);
 
         contactService.deleteContact(1L);
 
+        assertEquals(Contact.Status.DELETED, johnDoeSaved.getStatus());
         verify(contactRepository).findById(1L);
-        verify(contactRepository).delete(johnDoeSaved);
+        verify(contactRepository).saveAndFlush(johnDoeSaved);
+        verify(eventPublisher).publishEvent(new ContactChangedEvent(ContactChangedEvent.Type.DELETED, 1L, "John", "Doe"));
 
         verifyNoMoreInteractions(contactRepository);
         verifyNoInteractions(companyService);
@@ -232,6 +514,103 @@ class ContactServiceTest {
         verifyNoInteractions(contactProperties);
     }
 
+    @Test
+    void testDeleteContacts_ByIds_SingleUpdateAndEventPerDeletedContact() {
+        when(contactRepository.softDeleteByIdIn(eq(List.of(1L, 2L, 3L, 1L)), any(LocalDateTime.class)))
+                .thenReturn(List.of(new ContactSuggestion(1L, "John", "Doe"), new ContactSuggestion(2L, "Jane", "Doe")));
+
+        assertEquals(new ContactBulkResult(2), contactService.deleteContacts(new ContactBulkDeleteCommand(List.of(1L, 2L, 3L, 1L), null)));
+
+        verify(contactRepository).softDeleteByIdIn(eq(List.of(1L, 2L, 3L, 1L)), any(LocalDateTime.class));
+        verify(eventPublisher).publishEvent(new ContactChangedEvent(ContactChangedEvent.Type.DELETED, 1L, "John", "Doe"));
+        verify(eventPublisher).publishEvent(new ContactChangedEvent(ContactChangedEvent.Type.DELETED, 2L, "Jane", "Doe"));
+
+        verifyNoMoreInteractions(contactRepository);
+        verifyNoMoreInteractions(eventPublisher);
+        verifyNoInteractions(companyService);
+    }
+
+    @Test
+    void testDeleteContacts_ByIdsNoneActive_NoEvent() {
+        when(contactRepository.softDeleteByIdIn(eq(List.of(3L)), any(LocalDateTime.class))).thenReturn(List.of());
+
+        assertEquals(new ContactBulkResult(0), contactService.deleteContacts(new ContactBulkDeleteCommand(List.of(3L), null)));
+
+        verify(contactRepository).softDeleteByIdIn(eq(List.of(3L)), any(LocalDateTime.class));
+        verifyNoMoreInteractions(contactRepository);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void testDeleteContacts_ByCompany_SingleUpdateAndEventPerDeletedContact() {
+        when(companyService.findCompanyById(1L)).thenReturn(companyOne);
+        when(contactRepository.softDeleteByCompanyId(eq(1L), any(LocalDateTime.class)))
+                .thenReturn(List.of(new ContactSuggestion(1L, "John", "Doe")));
+
+        assertEquals(new ContactBulkResult(1), contactService.deleteContacts(new ContactBulkDeleteCommand(null, 1L)));
+
+        verify(contactRepository).softDeleteByCompanyId(eq(1L), any(LocalDateTime.class));
+        verify(eventPublisher).publishEvent(new ContactChangedEvent(ContactChangedEvent.Type.DELETED, 1L, "John", "Doe"));
+
+        verifyNoMoreInteractions(contactRepository);
+        verifyNoMoreInteractions(eventPublisher);
+    }
+
+    @Test
+    void testDeleteContacts_IdsAndCompanyGiven_IllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> contactService.deleteContacts(new ContactBulkDeleteCommand(List.of(1L), 1L)));
+        assertThrows(IllegalArgumentException.class,
+                () -> contactService.deleteContacts(new ContactBulkDeleteCommand(null, null)));
+
+        verifyNoInteractions(contactRepository);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void testDeleteContacts_TooManyIds_IllegalArgumentException() {
+        List<Long> ids = LongStream.rangeClosed(1, 101).boxed().collect(Collectors.toList());
+
+        assertThrows(IllegalArgumentException.class,
+                () -> contactService.deleteContacts(new ContactBulkDeleteCommand(ids, null)));
+
+        verifyNoInteractions(contactRepository);
+    }
+
+    @Test
+    void testReassignCompany_SingleUpdateAndEventPerMovedContact() {
+        when(companyService.findCompanyById(1L)).thenReturn(companyOne);
+        when(companyService.findCompanyById(2L)).thenReturn(new Company(2L, "Company #2"));
+        when(contactRepository.reassignCompany(eq(1L), eq(2L), any(LocalDateTime.class)))
+                .thenReturn(List.of(new ContactSuggestion(1L, "John", "Doe")));
+
+        assertEquals(new ContactBulkResult(1), contactService.reassignCompany(new ContactCompanyReassignCommand(1L, 2L)));
+
+        verify(contactRepository).reassignCompany(eq(1L), eq(2L), any(LocalDateTime.class));
+        verify(eventPublisher).publishEvent(new ContactChangedEvent(ContactChangedEvent.Type.UPDATED, 1L, "John", "Doe"));
+
+        verifyNoMoreInteractions(contactRepository);
+    }
+
+    @Test
+    void testReassignCompany_TargetCompanyNotExists_IdNotFoundException() {
+        when(companyService.findCompanyById(1L)).thenReturn(companyOne);
+        when(companyService.findCompanyById(4L)).thenThrow(new IdNotFoundException(4L, Company.class));
+
+        assertThrows(IdNotFoundException.class, () -> contactService.reassignCompany(new ContactCompanyReassignCommand(1L, 4L)));
+
+        verifyNoInteractions(contactRepository);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void testReassignCompany_SameCompany_IllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> contactService.reassignCompany(new ContactCompanyReassignCommand(1L, 1L)));
+
+        verifyNoInteractions(contactRepository);
+        verifyNoInteractions(companyService);
+    }
+
     private void initContactCommand() {
         LocalDateTime now = LocalDateTime.now();
 
@@ -252,6 +631,12 @@ class ContactServiceTest {
 
     }
 
+    private List<ContactMinInfo> numberedJohnDoes(int count) {
+        return IntStream.rangeClosed(1, count)
+                .mapToObj(i -> new ContactMinInfo((long) i, String.format("John%02d", i), "Doe", "john.doe@gmail.com", null, companyOne.getName()))
+                .collect(Collectors.toList());
+    }
+
     private void initCompany() {
         companyOne = new Company(1L, "Company #1");
     }
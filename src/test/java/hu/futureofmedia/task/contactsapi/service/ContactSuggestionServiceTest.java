@@ -0,0 +1,128 @@
+package hu.futureofmedia.task.contactsapi.service;
+
+import hu.futureofmedia.task.contactsapi.dto.ContactSuggestion;
+import hu.futureofmedia.task.contactsapi.event.ContactChangedEvent;
+import hu.futureofmedia.task.contactsapi.property.ContactProperties;
+import hu.futureofmedia.task.contactsapi.repositories.ContactRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ContactSuggestionServiceTest {
+
+    ContactSuggestionService contactSuggestionService;
+
+    @Mock
+    ContactRepository contactRepository;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    ContactSuggestion johnDoe, janeDoe, arpadKovacs;
+
+    @BeforeEach
+    void setUp() {
+        contactSuggestionService = new ContactSuggestionService(contactRepository, new ContactProperties(2, 2, 100, 2), transactionManager);
+        johnDoe = new ContactSuggestion(1L, "John", "Doe");
+        janeDoe = new ContactSuggestion(2L, "Jane", "Doe");
+        arpadKovacs = new ContactSuggestion(3L, "Árpád", "Kovács");
+    }
+
+    @Test
+    void testSuggestContacts_Loaded_MatchedByFirstOrLastNamePrefix() {
+        when(contactRepository.streamAllSuggestions()).thenReturn(Stream.of(johnDoe, janeDoe, arpadKovacs));
+        contactSuggestionService.loadSuggestions();
+
+        assertEquals(3, contactSuggestionService.getIndexedContactCount());
+        assertEquals(List.of(janeDoe, johnDoe), contactSuggestionService.suggestContacts("j"));
+        assertEquals(List.of(johnDoe), contactSuggestionService.suggestContacts("  JOHN   d"));
+        assertEquals(List.of(janeDoe), contactSuggestionService.suggestContacts("doe ja"));
+        assertEquals(List.of(arpadKovacs), contactSuggestionService.suggestContacts("kovacs arp"));
+        assertEquals(List.of(), contactSuggestionService.suggestContacts("x"));
+        assertEquals(List.of(), contactSuggestionService.suggestContacts(" "));
+    }
+
+    @Test
+    void testSuggestContacts_MoreMatchesThanPageSize_Limited() {
+        contactSuggestionService.onContactChanged(new ContactChangedEvent(ContactChangedEvent.Type.CREATED, 1L, "John", "Doe"));
+        contactSuggestionService.onContactChanged(new ContactChangedEvent(ContactChangedEvent.Type.CREATED, 2L, "Jane", "Doe"));
+        contactSuggestionService.onContactChanged(new ContactChangedEvent(ContactChangedEvent.Type.CREATED, 4L, "Jack", "Doe"));
+
+        assertEquals(2, contactSuggestionService.suggestContacts("doe").size());
+    }
+
+    @Test
+    void testOnContactChanged_UpdatedAndDeleted_IndexFollows() {
+        contactSuggestionService.onContactChanged(new ContactChangedEvent(ContactChangedEvent.Type.CREATED, 1L, "John", "Doe"));
+        contactSuggestionService.onContactChanged(new ContactChangedEvent(ContactChangedEvent.Type.UPDATED, 1L, "Jill", "Doe"));
+
+        assertEquals(List.of(), contactSuggestionService.suggestContacts("john"));
+        assertEquals(List.of(new ContactSuggestion(1L, "Jill", "Doe")), contactSuggestionService.suggestContacts("jill"));
+
+        contactSuggestionService.onContactChanged(new ContactChangedEvent(ContactChangedEvent.Type.DELETED, 1L, "Jill", "Doe"));
+
+        assertEquals(List.of(), contactSuggestionService.suggestContacts("doe"));
+        assertEquals(0, contactSuggestionService.getIndexedContactCount());
+    }
+
+    @Test
+    void testLoadSuggestions_ChangedBeforeLoaded_NewerVersionKept() {
+        contactSuggestionService.onContactChanged(new ContactChangedEvent(ContactChangedEvent.Type.UPDATED, 1L, "Jill", "Doe"));
+        when(contactRepository.streamAllSuggestions()).thenReturn(Stream.of(johnDoe));
+
+        contactSuggestionService.loadSuggestions();
+
+        assertEquals(List.of(), contactSuggestionService.suggestContacts("john"));
+        assertEquals(1, contactSuggestionService.suggestContacts("jill").size());
+    }
+
+    @Test
+    void testOnContactChanged_ConcurrentUpdatesOfSameContact_OnlyLatestNameIndexed() throws Exception {
+        int threads = 8;
+        int updatesPerThread = 2_000;
+        contactSuggestionService = new ContactSuggestionService(contactRepository, new ContactProperties(threads + 1, 2, 100, 2), transactionManager);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int thread = 0; thread < threads; thread++) {
+                String firstName = "Writer" + thread;
+                writers.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < updatesPerThread; i++) {
+                        contactSuggestionService.onContactChanged(new ContactChangedEvent(ContactChangedEvent.Type.UPDATED, 1L, firstName, "Doe"));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> writer : writers) {
+                writer.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        List<ContactSuggestion> byFirstName = contactSuggestionService.suggestContacts("writer");
+        List<ContactSuggestion> byLastName = contactSuggestionService.suggestContacts("doe");
+        assertEquals(1, byFirstName.size(), () -> "stale name keys left behind: " + byFirstName);
+        assertEquals(byFirstName, byLastName);
+        assertEquals(1, contactSuggestionService.getIndexedContactCount());
+    }
+}
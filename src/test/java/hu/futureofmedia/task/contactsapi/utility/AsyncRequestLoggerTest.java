@@ -0,0 +1,89 @@
+package hu.futureofmedia.task.contactsapi.utility;
+
+import hu.futureofmedia.task.contactsapi.dto.ContactCreateUpdateCommand;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import javax.json.Json;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncRequestLoggerTest {
+
+    @Test
+    void testFormatBody_CommandEmailAndPhoneNumberRedacted() {
+        String body = AsyncRequestLogger.formatBody(new Object[]{
+                new ContactCreateUpdateCommand("John", "Doe", "john.doe@gmail.com", "36201234567", 1L, "Comment 1234567890")});
+
+        assertEquals("ContactCreateCommand{firstName='John', lastName='Doe', email='***', phone='***', companyId=1, " +
+                "comment='Comment 1234567890'}", body);
+        assertEquals("no request body", AsyncRequestLogger.formatBody(new Object[0]));
+    }
+
+    @Test
+    void testFormatBody_PatchEmailAndPhoneNumberRedacted() {
+        String body = AsyncRequestLogger.formatBody(new Object[]{Json.createObjectBuilder()
+                .add("phoneNumber", "36201234567")
+                .addNull("email")
+                .add("comment", "1629454530")
+                .build()});
+
+        assertEquals("{\"phoneNumber\":\"***\",\"email\":null,\"comment\":\"1629454530\"}", body);
+    }
+
+    @Test
+    void testRedact_EmailRedactedNumbersKept() {
+        assertEquals("q=***&page=2", AsyncRequestLogger.redact("q=john.doe%40gmail.com&page=2"));
+        assertEquals("cursor=1629454530123&id=12345678", AsyncRequestLogger.redact("cursor=1629454530123&id=12345678"));
+    }
+
+    @Test
+    void testCompleted_BodyRenderedOnCompletion() {
+        StringBuilder mutable = new StringBuilder("before");
+        RequestLogEntry entry = new RequestLogEntry(LoggerFactory.getLogger(AsyncRequestLoggerTest.class), "POST", "/api/v1/contacts", null, new Object[]{mutable}, 0)
+                .completed(201, 1_000_000);
+        mutable.replace(0, mutable.length(), "after");
+
+        assertEquals("before", entry.getBody());
+    }
+
+    @Test
+    void testLog_QueueFull_EntryDroppedAndCounted() {
+        AsyncRequestLogger asyncRequestLogger = new AsyncRequestLogger(1, 1.0);
+
+        asyncRequestLogger.log(entry(200));
+        asyncRequestLogger.log(entry(200));
+
+        assertEquals(1, asyncRequestLogger.getQueueSize());
+        assertEquals(1, asyncRequestLogger.getDroppedCount());
+    }
+
+    @Test
+    void testLog_SuccessNotSampled_OnlyFailureQueued() {
+        AsyncRequestLogger asyncRequestLogger = new AsyncRequestLogger(10, 0.0);
+
+        asyncRequestLogger.log(entry(200));
+        asyncRequestLogger.log(entry(404));
+
+        assertEquals(1, asyncRequestLogger.getQueueSize());
+        assertEquals(1, asyncRequestLogger.getSampledOutCount());
+    }
+
+    @Test
+    void testStop_QueuedEntriesWritten() throws InterruptedException {
+        AsyncRequestLogger asyncRequestLogger = new AsyncRequestLogger(10, 1.0);
+        asyncRequestLogger.log(entry(200));
+        asyncRequestLogger.log(entry(201));
+
+        asyncRequestLogger.start();
+        asyncRequestLogger.stop();
+
+        assertEquals(2, asyncRequestLogger.getWrittenCount());
+        assertEquals(0, asyncRequestLogger.getQueueSize());
+    }
+
+    private RequestLogEntry entry(int status) {
+        return new RequestLogEntry(LoggerFactory.getLogger(AsyncRequestLoggerTest.class), "GET", "/api/v1/contacts", null, new Object[0], 0)
+                .completed(status, 1_000_000);
+    }
+}
@@ -0,0 +1,45 @@
+package hu.futureofmedia.task.contactsapi.utility;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class SqlStatementRecorder implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> RECORDED = new ThreadLocal<>();
+
+    private static final Pattern SEQUENCE_CALL = Pattern.compile("(?i)\\bcontact_seq\\b");
+
+    @Override
+    public String inspect(String sql) {
+        List<String> recorded = RECORDED.get();
+        if (recorded != null) {
+            recorded.add(sql);
+        }
+        return sql;
+    }
+
+    public static List<String> record(Runnable action) {
+        List<String> recorded = new ArrayList<>();
+        RECORDED.set(recorded);
+        try {
+            action.run();
+        } finally {
+            RECORDED.remove();
+        }
+        return recorded;
+    }
+
+    public static List<String> assertStatementCount(int expected, Runnable action) {
+        List<String> statements = record(action).stream()
+                .filter(sql -> !SEQUENCE_CALL.matcher(sql).find())
+                .collect(Collectors.toList());
+        assertEquals(expected, statements.size(), () -> "Unexpected statements:\n" + String.join("\n", statements));
+        return statements;
+    }
+}
@@ -0,0 +1,64 @@
+package hu.futureofmedia.task.contactsapi.validation;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PhoneValidatorTest {
+
+    PhoneValidator phoneValidator = new PhoneValidator();
+
+    @ParameterizedTest
+    @ValueSource(strings = {"1", "36201234567", "123456789012345", "999999999999999"})
+    void testHasE164Shape_DigitsWithoutLeadingZeroUpToFifteen_Accepted(String value) {
+        assertTrue(PhoneValidator.hasE164Shape(value));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"1234567890123456", "06201234567", "0", "+36201234567", "36 201234567", "36-20-1234567",
+            "3620123456/", "3620123456:", "3620123456a", "３６２０１２３４５６７"})
+    void testHasE164Shape_TooLongLeadingZeroOrNonAsciiDigit_Rejected(String value) {
+        assertFalse(PhoneValidator.hasE164Shape(value));
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    void testIsValid_NullOrEmpty_Valid(String value) {
+        assertTrue(phoneValidator.isValid(value, null));
+    }
+
+    @Test
+    void testIsValid_ShapeOrNumberInvalid_Invalid() {
+        assertFalse(phoneValidator.isValid("+36201234567", null));
+        assertFalse(phoneValidator.isValid("1234567890123456", null));
+        assertFalse(phoneValidator.isValid("999999999999999", null));
+        assertTrue(phoneValidator.isValid("36201234567", null));
+    }
+
+    @Test
+    void testIsValid_SameNumberTwice_SecondResultMemoized() {
+        long hitsBefore = PhoneValidator.getMemoHitCount();
+        long missesBefore = PhoneValidator.getMemoMissCount();
+
+        assertTrue(phoneValidator.isValid("36705550123", null));
+        assertTrue(phoneValidator.isValid("36705550123", null));
+
+        assertEquals(2, PhoneValidator.getMemoHitCount() - hitsBefore + PhoneValidator.getMemoMissCount() - missesBefore);
+        assertTrue(PhoneValidator.getMemoHitCount() - hitsBefore >= 1);
+    }
+
+    @Test
+    void testIsValid_InvalidShape_MemoNotUsed() {
+        long hitsBefore = PhoneValidator.getMemoHitCount();
+        long missesBefore = PhoneValidator.getMemoMissCount();
+
+        assertFalse(phoneValidator.isValid("0036201234567", null));
+        assertFalse(phoneValidator.isValid("36 20 123 4567", null));
+
+        assertEquals(hitsBefore, PhoneValidator.getMemoHitCount());
+        assertEquals(missesBefore, PhoneValidator.getMemoMissCount());
+    }
+}
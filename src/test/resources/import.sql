@@ -1,3 +0,0 @@
-insert into company (id, name) values (1, 'Company #1');
-insert into company (id, name) values (2, 'Company #2');
-insert into company (id, name) values (3, 'Company #3');
\ No newline at end of file